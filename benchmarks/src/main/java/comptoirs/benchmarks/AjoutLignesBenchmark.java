@@ -0,0 +1,66 @@
+package comptoirs.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import comptoirs.dto.NouvelleLigneDTO;
+import comptoirs.entity.Ligne;
+import comptoirs.service.CommandeService;
+
+/**
+ * Saisie d'une commande de 50 lignes : 50 appels à ajouterLigne (une transaction par ligne),
+ * comparés à un seul appel à ajouterLignes (une transaction, inserts par lots JDBC).
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AjoutLignesBenchmark {
+    private static final String CLIENT = "ALFKI";
+    private static final int NOMBRE_DE_LIGNES = 50;
+
+    /**
+     * Une nouvelle commande, vide, et les lignes à y ajouter
+     */
+    @State(Scope.Thread)
+    public static class CommandeVide {
+        int numero;
+        List<NouvelleLigneDTO> lignes;
+
+        @Setup(Level.Invocation)
+        public void preparer(ContexteComptoirs contexte) {
+            numero = contexte.bean(CommandeService.class).creerCommande(CLIENT).getNumero();
+            lignes = contexte.produits.subList(0, NOMBRE_DE_LIGNES).stream()
+                .map(produit -> new NouvelleLigneDTO(produit, 1))
+                .toList();
+        }
+    }
+
+    @Benchmark
+    public int uneTransactionParLigne(ContexteComptoirs contexte, CommandeVide commande) {
+        var service = contexte.bean(CommandeService.class);
+        int total = 0;
+        for (var ligne : commande.lignes) {
+            total += service.ajouterLigne(commande.numero, ligne.getProduitRef(), ligne.getQuantite()).getQuantite();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public List<Ligne> uneTransactionParCommande(ContexteComptoirs contexte, CommandeVide commande) {
+        return contexte.bean(CommandeService.class).ajouterLignes(commande.numero, commande.lignes);
+    }
+}
@@ -0,0 +1,97 @@
+package comptoirs.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import comptoirs.dto.Ventes;
+import comptoirs.service.AnalyseVentesService;
+import comptoirs.service.AnalyseVentesService.Critere;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Chiffre d'affaires par critère (catégorie, pays, mois) sur un million de lignes de commande :
+ * parcours des colonnes en mémoire (AnalyseVentesService) comparé à la requête GROUP BY équivalente.
+ * Le client ALFKI reçoit un historique synthétique de 200 000 commandes de 5 lignes.
+ * On vérifie au démarrage que les deux calculs donnent les mêmes résultats.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalyseVentesBenchmark {
+    private static final int COMMANDES = 200_000;
+    private static final int LIGNES_PAR_COMMANDE = 5;
+
+    // Le montant de chaque ligne est arrondi au centime, comme dans AnalyseVentesService
+    private static final String SELECT = "select %s, sum(l.quantite), sum(round(l.quantite * p.prixUnitaire * (1 - c.remise), 2)) "
+        + "from Ligne l join l.commande c join l.produit p group by %s";
+
+    @Param({"CATEGORIE", "PAYS", "MOIS"})
+    Critere critere;
+
+    AnalyseVentesService analyseVentes;
+    TransactionTemplate transaction;
+    EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void preparer(ContexteComptoirs contexte) {
+        contexte.genererHistorique(COMMANDES, LIGNES_PAR_COMMANDE);
+        analyseVentes = contexte.bean(AnalyseVentesService.class);
+        analyseVentes.reconstruire();
+        transaction = new TransactionTemplate(contexte.bean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+        entityManager = contexte.bean(EntityManager.class);
+        if (!memoire().equals(sql())) {
+            throw new IllegalStateException("Les deux calculs ne donnent pas les mêmes ventes");
+        }
+    }
+
+    @Benchmark
+    public List<Ventes> memoire() {
+        return analyseVentes.ventesPar(critere);
+    }
+
+    @Benchmark
+    public List<Ventes> sql() {
+        var jpql = switch (critere) {
+            case CATEGORIE -> SELECT.formatted("p.categorie.code", "p.categorie.code");
+            case PRODUIT -> SELECT.formatted("p.reference", "p.reference");
+            case PAYS -> SELECT.formatted("c.client.adresse.pays", "c.client.adresse.pays");
+            case MOIS -> SELECT.formatted("year(c.saisiele) * 12 + month(c.saisiele) - 1",
+                "year(c.saisiele) * 12 + month(c.saisiele) - 1");
+        };
+        return transaction.execute(status -> entityManager.createQuery(jpql, Object[].class)
+            .getResultStream()
+            .map(rangee -> new Ventes(cle(rangee[0]), ((Number) rangee[1]).longValue(),
+                ((BigDecimal) rangee[2]).setScale(2)))
+            .sorted(Comparator.comparing(Ventes::cle))
+            .toList());
+    }
+
+    private String cle(Object valeur) {
+        if (critere == Critere.MOIS) {
+            int mois = ((Number) valeur).intValue();
+            return String.format("%04d-%02d", mois / 12, mois % 12 + 1);
+        }
+        return String.valueOf(valeur);
+    }
+}
@@ -0,0 +1,99 @@
+package comptoirs.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import comptoirs.dao.CategorieRepository;
+import comptoirs.dao.ProduitRepository;
+import comptoirs.entity.Categorie;
+import comptoirs.entity.Produit;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Lectures du catalogue : avec le cache (méthodes de CategorieRepository et ProduitRepository),
+ * comparées aux mêmes requêtes exécutées directement, sans cache.
+ * Liste des catégories et de leurs produits (/services/simple/list), nombre de catégories (/services/simple/combien),
+ * données de référence d'un produit (CommandeService.ajouterLigne).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogueBenchmark {
+    TransactionTemplate transaction;
+    EntityManager entityManager;
+    CategorieRepository categorieDao;
+    ProduitRepository produitDao;
+    List<Integer> produits;
+    int prochainProduit;
+
+    @Setup(Level.Trial)
+    public void preparer(ContexteComptoirs contexte) {
+        transaction = new TransactionTemplate(contexte.bean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+        entityManager = contexte.bean(EntityManager.class);
+        categorieDao = contexte.bean(CategorieRepository.class);
+        produitDao = contexte.bean(ProduitRepository.class);
+        produits = contexte.produits;
+    }
+
+    // Les produits sont lus à tour de rôle
+    private int produitSuivant() {
+        prochainProduit = (prochainProduit + 1) % produits.size();
+        return produits.get(prochainProduit);
+    }
+
+    @Benchmark
+    public List<Categorie> categoriesSansCache() {
+        return transaction.execute(status -> entityManager
+            .createQuery("select c from Categorie c left join fetch c.produits", Categorie.class)
+            .getResultList());
+    }
+
+    @Benchmark
+    public List<Categorie> categoriesAvecCache() {
+        return categorieDao.findAll();
+    }
+
+    @Benchmark
+    public Long nombreSansCache() {
+        return transaction.execute(status -> entityManager
+            .createQuery("select count(c) from Categorie c", Long.class)
+            .getSingleResult());
+    }
+
+    @Benchmark
+    public long nombreAvecCache() {
+        return categorieDao.count();
+    }
+
+    @Benchmark
+    public Produit produitSansCache() {
+        int reference = produitSuivant();
+        return transaction.execute(status -> entityManager
+            .createQuery("select p from Produit p join fetch p.categorie where p.reference = :reference", Produit.class)
+            .setParameter("reference", reference)
+            .getSingleResult());
+    }
+
+    @Benchmark
+    public Produit produitAvecCache() {
+        return produitDao.findCatalogueByReference(produitSuivant()).orElseThrow();
+    }
+}
@@ -0,0 +1,142 @@
+package comptoirs.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test de charge du contrôle d'admission (cf. comptoirs.cloisons dans application.properties) :
+ * les lectures doivent garder une latence bornée pendant que la saisie des commandes est saturée.
+ * L'application est démarrée à part, avec puis sans les cloisons :
+ * <pre>
+ *   mvn spring-boot:run -Dspring-boot.run.arguments="--logging.level.web=WARN --spring.jpa.show-sql=false"
+ *   mvn spring-boot:run -Dspring-boot.run.arguments="--logging.level.web=WARN --spring.jpa.show-sql=false --comptoirs.cloisons-actives=false"
+ *   java -cp target/benchmarks.jar comptoirs.benchmarks.ChargeCloisons [clients écriture] [clients lecture] [durée (s)] [url]
+ * </pre>
+ * Les clients "écriture" créent en boucle des commandes de 10 lignes (ajouterPour puis ajouterLignes),
+ * pour des clients différents ; les clients "lecture" lisent le catalogue (/services/simple/list)
+ * et des statistiques (/services/stats/unitesVenduesPourCategorie/1).
+ * Chaque client attend la réponse avant d'envoyer la requête suivante ; après un rejet (503), il attend
+ * une seconde, comme demandé par l'en-tête "Retry-After".
+ * Le stock des produits disponibles est d'abord porté à 1 000 000 unités (PATCH /api/produits/...).
+ */
+public class ChargeCloisons {
+    private static final int LIGNES_PAR_COMMANDE = 10;
+    // Produits indisponibles dans le jeu de données (data.sql)
+    private static final Set<Integer> INDISPONIBLES = Set.of(5, 9, 17, 24, 28, 29, 42, 53);
+    private static final Pattern NUMERO = Pattern.compile("\"numero\"\\s*:\\s*(\\d+)");
+    private static final Pattern CLIENT = Pattern.compile("/api/clients/([A-Z]{5})\"");
+
+    public static void main(String[] args) throws Exception {
+        int clientsEcriture = args.length > 0 ? Integer.parseInt(args[0]) : 150;
+        int clientsLecture = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int duree = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        String url = args.length > 3 ? args[3] : "http://localhost:8989";
+
+        var http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        var produits = IntStream.rangeClosed(1, 77).filter(p -> !INDISPONIBLES.contains(p)).boxed().toList();
+        for (var produit : produits) {
+            http.send(HttpRequest.newBuilder(URI.create(url + "/api/produits/" + produit))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"unitesEnStock\": 1000000}")).build(),
+                HttpResponse.BodyHandlers.discarding());
+        }
+        var codesClients = CLIENT.matcher(http.send(HttpRequest.newBuilder(URI.create(url + "/api/clients?size=100"))
+                .GET().build(), HttpResponse.BodyHandlers.ofString()).body())
+            .results().map(m -> m.group(1)).distinct().toList();
+
+        var ecritures = new ChargeHttp.Mesures("écriture");
+        var lectures = new ChargeHttp.Mesures("lecture");
+        var lecturesRequetes = List.of(
+            HttpRequest.newBuilder(URI.create(url + "/services/simple/list")).timeout(Duration.ofSeconds(60)).GET().build(),
+            HttpRequest.newBuilder(URI.create(url + "/services/stats/unitesVenduesPourCategorie/1"))
+                .timeout(Duration.ofSeconds(60)).GET().build());
+
+        long fin = System.nanoTime() + Duration.ofSeconds(duree).toNanos();
+        var clients = new ArrayList<Thread>();
+        for (int i = 0; i < clientsEcriture; i++) {
+            var code = codesClients.get(i % codesClients.size());
+            clients.add(demarrer(() -> {
+                while (System.nanoTime() < fin) {
+                    long debut = System.nanoTime();
+                    try {
+                        // Une commande : deux requêtes, mesurées ensemble
+                        var reponse = http.send(HttpRequest.newBuilder(
+                                URI.create(url + "/services/commandes/ajouterPour/" + code))
+                            .timeout(Duration.ofSeconds(60)).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                            HttpResponse.BodyHandlers.ofString());
+                        int statut = reponse.statusCode();
+                        if (statut == 200) {
+                            var m = NUMERO.matcher(reponse.body());
+                            m.find();
+                            var lignes = new ArrayList<>(produits);
+                            Collections.shuffle(lignes, ThreadLocalRandom.current());
+                            statut = http.send(HttpRequest.newBuilder(
+                                    URI.create(url + "/services/commandes/ajouterLignes/" + m.group(1)))
+                                .timeout(Duration.ofSeconds(60))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(lignes.subList(0, LIGNES_PAR_COMMANDE).stream()
+                                    .map(p -> "{\"produitRef\": " + p + ", \"quantite\": 1}")
+                                    .collect(Collectors.joining(",", "[", "]"))))
+                                .build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                        }
+                        enregistrer(ecritures, statut, debut);
+                    } catch (Exception e) {
+                        ecritures.erreurs.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (int i = 0; i < clientsLecture; i++) {
+            var requete = lecturesRequetes.get(i % lecturesRequetes.size());
+            clients.add(demarrer(() -> {
+                while (System.nanoTime() < fin) {
+                    long debut = System.nanoTime();
+                    try {
+                        var reponse = http.send(requete, HttpResponse.BodyHandlers.discarding());
+                        enregistrer(lectures, reponse.statusCode(), debut);
+                    } catch (Exception e) {
+                        lectures.erreurs.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (var client : clients) {
+            client.join();
+        }
+        System.out.printf("%d clients écriture (commandes de %d lignes), %d clients lecture, %d s, %s%n",
+            clientsEcriture, LIGNES_PAR_COMMANDE, clientsLecture, duree, url);
+        ecritures.afficher(duree);
+        lectures.afficher(duree);
+    }
+
+    private static Thread demarrer(Runnable client) {
+        var thread = new Thread(client);
+        thread.start();
+        return thread;
+    }
+
+    private static void enregistrer(ChargeHttp.Mesures mesures, int statut, long debut) throws InterruptedException {
+        if (statut == 503) {
+            mesures.rejets.incrementAndGet();
+            Thread.sleep(1000);
+        } else if (statut != 200) {
+            mesures.erreurs.incrementAndGet();
+        } else {
+            mesures.latences.add((System.nanoTime() - debut) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package comptoirs.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test de charge HTTP de l'application, démarrée à part avec des threads "classiques" ou virtuels :
+ * <pre>
+ *   mvn spring-boot:run           -Dspring-boot.run.arguments="--logging.level.web=WARN --spring.jpa.show-sql=false"
+ *   mvn -Pvirtual spring-boot:run -Dspring-boot.run.arguments="--logging.level.web=WARN --spring.jpa.show-sql=false"
+ *   java -cp target/benchmarks.jar comptoirs.benchmarks.ChargeHttp [clients attente] [clients commande] [durée (s)] [url]
+ * </pre>
+ * Deux types de clients simultanés envoient des requêtes en boucle (chacun attend la réponse avant d'envoyer la suivante) :
+ * les clients "attente" appellent /services/simple/wait (une seconde de Thread.sleep),
+ * les clients "commande" créent des commandes (/services/commandes/ajouterPour).
+ * Affiche, pour chaque type, le débit, les percentiles de latence et le nombre d'erreurs.
+ * Les clients "commande" passent par le contrôle d'admission (cloison "commandes") : au-delà de sa limite,
+ * des requêtes sont rejetées (503, "rejets"). Pour mesurer sans limite : --comptoirs.cloisons-actives=false
+ * Ce n'est pas un benchmark JMH : la mesure est faite "de l'extérieur", sur l'application complète.
+ */
+public class ChargeHttp {
+    private static final String CLIENT = "ALFKI";
+
+    /**
+     * Les latences (en ms) et les erreurs d'un type de requête
+     */
+    static class Mesures {
+        final String nom;
+        final List<Long> latences = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger erreurs = new AtomicInteger();
+        // Réponses 503 : requêtes rejetées par le contrôle d'admission (cf. comptoirs.cloisons)
+        final AtomicInteger rejets = new AtomicInteger();
+
+        Mesures(String nom) {
+            this.nom = nom;
+        }
+
+        void afficher(int duree) {
+            var triees = new ArrayList<>(latences);
+            Collections.sort(triees);
+            System.out.printf("%-9s requêtes=%d débit=%.1f/s p50=%d ms p99=%d ms max=%d ms erreurs=%d rejets=%d%n",
+                nom, triees.size(), (double) triees.size() / duree,
+                percentile(triees, 0.50), percentile(triees, 0.99), percentile(triees, 1.0), erreurs.get(), rejets.get());
+        }
+
+        private static long percentile(List<Long> triees, double p) {
+            return triees.isEmpty() ? 0 : triees.get((int) Math.ceil(p * triees.size()) - 1);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int clientsAttente = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int clientsCommande = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        int duree = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        String url = args.length > 3 ? args[3] : "http://localhost:8989";
+
+        var http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        var attente = HttpRequest.newBuilder(URI.create(url + "/services/simple/wait?timeout=1"))
+            .timeout(Duration.ofSeconds(60)).GET().build();
+        var commande = HttpRequest.newBuilder(URI.create(url + "/services/commandes/ajouterPour/" + CLIENT))
+            .timeout(Duration.ofSeconds(60)).POST(HttpRequest.BodyPublishers.noBody()).build();
+        var mesuresAttente = new Mesures("attente");
+        var mesuresCommande = new Mesures("commande");
+
+        long fin = System.nanoTime() + Duration.ofSeconds(duree).toNanos();
+        var clients = new ArrayList<Thread>();
+        for (int i = 0; i < clientsAttente + clientsCommande; i++) {
+            var requete = i < clientsAttente ? attente : commande;
+            var mesures = i < clientsAttente ? mesuresAttente : mesuresCommande;
+            var client = new Thread(() -> {
+                while (System.nanoTime() < fin) {
+                    long debut = System.nanoTime();
+                    try {
+                        var reponse = http.send(requete, HttpResponse.BodyHandlers.discarding());
+                        if (reponse.statusCode() == 503) {
+                            mesures.rejets.incrementAndGet();
+                            continue;
+                        }
+                        if (reponse.statusCode() != 200) {
+                            mesures.erreurs.incrementAndGet();
+                            continue;
+                        }
+                        mesures.latences.add((System.nanoTime() - debut) / 1_000_000);
+                    } catch (Exception e) {
+                        mesures.erreurs.incrementAndGet();
+                    }
+                }
+            });
+            client.start();
+            clients.add(client);
+        }
+        for (var client : clients) {
+            client.join();
+        }
+        System.out.printf("%d clients attente, %d clients commande, %d s, %s%n",
+            clientsAttente, clientsCommande, duree, url);
+        mesuresAttente.afficher(duree);
+        mesuresCommande.afficher(duree);
+    }
+}
@@ -0,0 +1,282 @@
+package comptoirs.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Test de charge du flux du stock (Server-Sent Events, /services/stock/flux), sur l'application démarrée à part :
+ * <pre>
+ *   mvn spring-boot:run -Dspring-boot.run.arguments="--logging.level.web=WARN --spring.jpa.show-sql=false --comptoirs.stock.envoi-max=2000"
+ *   java -cp target/benchmarks.jar comptoirs.benchmarks.ChargeSse [abonnés] [abonnés lents] [déclenchements] [durée rafale (s)] [url]
+ * </pre>
+ * <ol>
+ * <li>Ouvre des milliers d'abonnements (un seul HttpClient, connexions HTTP/1.1 non bloquantes),
+ *     et quelques abonnés "lents" : des sockets qui ne lisent jamais ce qu'elles reçoivent.</li>
+ * <li>Latence : réserve plusieurs fois une unité d'un produit (ajouterLigne), à intervalles réguliers,
+ *     et mesure le délai entre la fin de la réservation et sa réception par chaque abonné.</li>
+ * <li>Rafale : réserve en boucle une unité de chaque produit disponible (ajouterLignes), pour remplir
+ *     les tampons des abonnés lents. Ils doivent être abandonnés sans ralentir les autres abonnés.</li>
+ * </ol>
+ * Le stock des produits disponibles est d'abord porté à 1 000 000 unités (PATCH /api/produits/...),
+ * pour que les réservations ne soient pas refusées.
+ */
+public class ChargeSse {
+    private static final String CLIENT = "ALFKI";
+    private static final int PRODUIT = 1;
+    private static final Pattern ETAT = Pattern.compile(
+        "\"reference\":(\\d+),\"unitesEnStock\":(-?\\d+),\"unitesCommandees\":(-?\\d+),\"indisponible\":(true|false)");
+    private static final Pattern NUMERO = Pattern.compile("\"numero\"\\s*:\\s*(\\d+)");
+
+    /**
+     * Un abonné : lit les messages du flux et note, pour le produit observé,
+     * quand chaque valeur de unitesCommandees a été reçue
+     */
+    static class Lecteur implements Flow.Subscriber<String> {
+        final CountDownLatch etatInitial = new CountDownLatch(1);
+        // Valeur de unitesCommandees du produit observé -> date de réception (System.nanoTime())
+        final Map<Integer, Long> receptions = new ConcurrentHashMap<>();
+        // Produits disponibles, d'après l'état initial
+        final List<Integer> disponibles = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger messages = new AtomicInteger();
+        final AtomicLong dernierMessage = new AtomicLong();
+        volatile boolean termine;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String ligne) {
+            if (!ligne.startsWith("data:")) {
+                return;
+            }
+            long maintenant = System.nanoTime();
+            messages.incrementAndGet();
+            dernierMessage.set(maintenant);
+            Matcher m = ETAT.matcher(ligne);
+            while (m.find()) {
+                int reference = Integer.parseInt(m.group(1));
+                if (reference == PRODUIT) {
+                    receptions.putIfAbsent(Integer.parseInt(m.group(3)), maintenant);
+                }
+                if (etatInitial.getCount() > 0 && m.group(4).equals("false")) {
+                    disponibles.add(reference);
+                }
+            }
+            etatInitial.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            termine = true;
+            etatInitial.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            termine = true;
+            etatInitial.countDown();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int nombreAbonnes = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int nombreLents = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int declenchements = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int dureeRafale = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+        String url = args.length > 4 ? args[4] : "http://localhost:8989";
+
+        var http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+        // 1. Les abonnés, par paquets (la file d'attente des connexions de Tomcat est limitée)
+        var flux = HttpRequest.newBuilder(URI.create(url + "/services/stock/flux"))
+            .header("Accept", "text/event-stream").GET().build();
+        var lecteurs = new ArrayList<Lecteur>();
+        long debut = System.nanoTime();
+        for (int i = 0; i < nombreAbonnes; i += 200) {
+            var paquet = new ArrayList<Lecteur>();
+            for (int j = i; j < Math.min(nombreAbonnes, i + 200); j++) {
+                var lecteur = new Lecteur();
+                http.sendAsync(flux, HttpResponse.BodyHandlers.fromLineSubscriber(lecteur))
+                    .exceptionally(e -> {
+                        lecteur.onError(e);
+                        return null;
+                    });
+                paquet.add(lecteur);
+            }
+            for (var lecteur : paquet) {
+                lecteur.etatInitial.await(30, TimeUnit.SECONDS);
+            }
+            lecteurs.addAll(paquet);
+        }
+        long connectes = lecteurs.stream().filter(l -> !l.termine && l.messages.get() > 0).count();
+        System.out.printf("%d abonnés connectés sur %d en %d ms (état initial reçu)%n",
+            connectes, nombreAbonnes, (System.nanoTime() - debut) / 1_000_000);
+
+        var lents = new ArrayList<Socket>();
+        var adresse = URI.create(url);
+        for (int i = 0; i < nombreLents; i++) {
+            var socket = new Socket();
+            socket.setReceiveBufferSize(1024); // Avant la connexion, pour limiter la fenêtre TCP
+            socket.connect(new InetSocketAddress(adresse.getHost(), adresse.getPort()));
+            OutputStream sortie = socket.getOutputStream();
+            sortie.write(("GET /services/stock/flux HTTP/1.1\r\nHost: " + adresse.getHost()
+                + "\r\nAccept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            sortie.flush();
+            lents.add(socket); // Jamais lue
+        }
+
+        // Stock "infini" pour les produits disponibles
+        var temoin = lecteurs.get(0);
+        var disponibles = List.copyOf(temoin.disponibles);
+        for (var reference : disponibles) {
+            envoyer(http, HttpRequest.newBuilder(URI.create(url + "/api/produits/" + reference))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"unitesEnStock\": 1000000}")).build());
+        }
+
+        // 2. Latence de diffusion d'une réservation
+        int base = temoin.receptions.keySet().stream().mapToInt(Integer::intValue).max().orElseThrow();
+        var latences = new ArrayList<Long>();
+        int manquants = 0;
+        var fins = new long[declenchements];
+        for (int k = 0; k < declenchements; k++) {
+            int commande = nouvelleCommande(http, url);
+            envoyer(http, HttpRequest.newBuilder(URI.create(url + "/services/commandes/ajouterLigne?commandeNum="
+                + commande + "&produitRef=" + PRODUIT + "&quantite=1")).POST(HttpRequest.BodyPublishers.noBody()).build());
+            fins[k] = System.nanoTime();
+            Thread.sleep(1000);
+        }
+        Thread.sleep(1000);
+        for (var lecteur : lecteurs) {
+            for (int k = 0; k < declenchements; k++) {
+                final int attendu = base + k + 1;
+                // La première valeur au moins égale à celle attendue (des réservations rapprochées peuvent être regroupées)
+                var recu = lecteur.receptions.entrySet().stream()
+                    .filter(e -> e.getKey() >= attendu).mapToLong(Map.Entry::getValue).min();
+                if (recu.isPresent()) {
+                    latences.add(Math.max(0, recu.getAsLong() - fins[k]) / 1_000_000);
+                } else {
+                    manquants++;
+                }
+            }
+        }
+        Collections.sort(latences);
+        System.out.printf("Latence (fin de ajouterLigne -> réception), %d déclenchements x %d abonnés : "
+                + "p50=%d ms p99=%d ms max=%d ms, non reçus=%d%n",
+            declenchements, lecteurs.size(), percentile(latences, 0.50), percentile(latences, 0.99),
+            percentile(latences, 1.0), manquants);
+
+        // 3. Rafale sur tous les produits disponibles : les abonnés lents doivent être abandonnés
+        var lignes = disponibles.stream().map(r -> "{\"produitRef\": " + r + ", \"quantite\": 1}")
+            .collect(Collectors.joining(",", "[", "]"));
+        long finRafale = System.nanoTime() + TimeUnit.SECONDS.toNanos(dureeRafale);
+        int rafales = 0;
+        while (System.nanoTime() < finRafale) {
+            int commande = nouvelleCommande(http, url);
+            envoyer(http, HttpRequest.newBuilder(URI.create(url + "/services/commandes/ajouterLignes/" + commande))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(lignes)).build());
+            rafales++;
+        }
+        long apresRafale = System.nanoTime();
+        Thread.sleep(1000);
+        long aJour = lecteurs.stream().filter(l -> l.dernierMessage.get() > apresRafale - 1_000_000_000L).count();
+        System.out.printf("Rafale : %d commandes de %d lignes en %d s, %d abonnés ont reçu un message "
+                + "dans la dernière seconde, %d messages reçus par abonné en moyenne%n",
+            rafales, disponibles.size(), dureeRafale, aJour,
+            lecteurs.stream().mapToInt(l -> l.messages.get()).sum() / Math.max(1, lecteurs.size()));
+        int lentsFermes = 0;
+        for (var socket : lents) {
+            if (fermeParLeServeur(socket)) {
+                lentsFermes++;
+            }
+        }
+        System.out.printf("Abonnés lents fermés par le serveur : %d sur %d%n", lentsFermes, lents.size());
+        System.out.println("Serveur : " + metrique(http, url, "stock.flux.abonnes")
+            + ", " + metrique(http, url, "stock.flux.abandons"));
+        System.exit(0);
+    }
+
+    private static int nouvelleCommande(HttpClient http, String url) throws IOException, InterruptedException {
+        var reponse = envoyer(http, HttpRequest.newBuilder(URI.create(url + "/services/commandes/ajouterPour/" + CLIENT))
+            .POST(HttpRequest.BodyPublishers.noBody()).build());
+        var m = NUMERO.matcher(reponse);
+        if (!m.find()) {
+            throw new IllegalStateException("Pas de numéro de commande : " + reponse);
+        }
+        return Integer.parseInt(m.group(1));
+    }
+
+    private static String envoyer(HttpClient http, HttpRequest requete) throws IOException, InterruptedException {
+        var reponse = http.send(requete, HttpResponse.BodyHandlers.ofString());
+        if (reponse.statusCode() >= 300) {
+            throw new IllegalStateException(requete.uri() + " : " + reponse.statusCode() + " " + reponse.body());
+        }
+        return reponse.body();
+    }
+
+    /**
+     * Lit tout ce que le serveur a envoyé à un abonné lent :
+     * true si la réponse est terminée (dernier "chunk" vide, ou connexion fermée)
+     */
+    private static boolean fermeParLeServeur(Socket socket) throws IOException {
+        socket.setSoTimeout(2000);
+        InputStream entree = socket.getInputStream();
+        var tampon = new byte[64 * 1024];
+        var fin = "";
+        try {
+            for (int lus; (lus = entree.read(tampon)) >= 0; ) {
+                fin = (fin + new String(tampon, 0, lus, StandardCharsets.US_ASCII));
+                fin = fin.substring(Math.max(0, fin.length() - 16));
+                if (fin.endsWith("\r\n0\r\n\r\n")) {
+                    return true;
+                }
+            }
+            return true;
+        } catch (SocketTimeoutException e) { // Toujours abonné
+            return false;
+        } catch (IOException e) { // Connexion réinitialisée par le serveur
+            return true;
+        } finally {
+            socket.close();
+        }
+    }
+
+    private static String metrique(HttpClient http, String url, String nom) throws IOException, InterruptedException {
+        var corps = envoyer(http, HttpRequest.newBuilder(URI.create(url + "/actuator/metrics/" + nom)).GET().build());
+        var m = Pattern.compile("\"value\"\\s*:\\s*([0-9.E]+)").matcher(corps);
+        return nom + "=" + (m.find() ? m.group(1) : "?");
+    }
+
+    private static long percentile(List<Long> triees, double p) {
+        return triees.isEmpty() ? 0 : triees.get((int) Math.ceil(p * triees.size()) - 1);
+    }
+}
@@ -1,11 +1,12 @@
-package comptoirs.dto;
+package comptoirs.benchmarks;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
 /**
- * On définit une projection pour transmettre des informations sur une commande et ses lignes de commande.
+ * L'ancienne projection "interface" de l'application (remplacée par comptoirs.dto.CommandeDetails),
+ * conservée pour comparaison dans DetailsCommandeBenchmark.
  */
 public interface CommandeProjection {
     // Pour les commandes on ne garder que le numéro et la date de saisie
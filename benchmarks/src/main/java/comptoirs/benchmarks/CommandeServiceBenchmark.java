@@ -0,0 +1,111 @@
+package comptoirs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import comptoirs.entity.Commande;
+import comptoirs.entity.Ligne;
+import comptoirs.service.CommandeService;
+
+/**
+ * Cycle de vie d'une commande : création, ajout de lignes, expédition.
+ * Chaque méthode est mesurée sur un seul thread, puis sur 8 threads qui travaillent
+ * sur les mêmes lignes de la base (même client, mêmes produits) : mode "contention".
+ * Les deux modes de mesure donnent le débit et les percentiles de latence.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CommandeServiceBenchmark {
+    private static final String CLIENT = "ALFKI";
+    private static final int LIGNES_PAR_COMMANDE = 5;
+
+    /**
+     * Une commande en cours de saisie par le thread, et le prochain produit à y ajouter.
+     * Une commande ne peut contenir qu'une ligne par produit : quand tous les produits
+     * ont été ajoutés, on passe à une nouvelle commande.
+     */
+    @State(Scope.Thread)
+    public static class CommandeEnCours {
+        int numero;
+        int prochainProduit;
+
+        @Setup(Level.Iteration)
+        public void nouvelleCommande(ContexteComptoirs contexte) {
+            numero = contexte.bean(CommandeService.class).creerCommande(CLIENT).getNumero();
+            prochainProduit = 0;
+        }
+
+        int produitSuivant(ContexteComptoirs contexte) {
+            if (prochainProduit == contexte.produits.size()) {
+                nouvelleCommande(contexte);
+            }
+            return contexte.produits.get(prochainProduit++);
+        }
+    }
+
+    /**
+     * Une commande avec quelques lignes, prête à être expédiée
+     */
+    @State(Scope.Thread)
+    public static class CommandeAExpedier {
+        int numero;
+
+        @Setup(Level.Invocation)
+        public void preparer(ContexteComptoirs contexte) {
+            var service = contexte.bean(CommandeService.class);
+            numero = service.creerCommande(CLIENT).getNumero();
+            for (int i = 0; i < LIGNES_PAR_COMMANDE; i++) {
+                service.ajouterLigne(numero, contexte.produits.get(i), 1);
+            }
+        }
+    }
+
+    @Benchmark
+    public Commande creerCommande(ContexteComptoirs contexte) {
+        return contexte.bean(CommandeService.class).creerCommande(CLIENT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Commande creerCommandeContention(ContexteComptoirs contexte) {
+        return creerCommande(contexte);
+    }
+
+    @Benchmark
+    public Ligne ajouterLigne(ContexteComptoirs contexte, CommandeEnCours commande) {
+        int produit = commande.produitSuivant(contexte);
+        return contexte.bean(CommandeService.class).ajouterLigne(commande.numero, produit, 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Ligne ajouterLigneContention(ContexteComptoirs contexte, CommandeEnCours commande) {
+        return ajouterLigne(contexte, commande);
+    }
+
+    @Benchmark
+    public Commande enregistreExpedition(ContexteComptoirs contexte, CommandeAExpedier commande) {
+        return contexte.bean(CommandeService.class).enregistreExpedition(commande.numero);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Commande enregistreExpeditionContention(ContexteComptoirs contexte, CommandeAExpedier commande) {
+        return enregistreExpedition(contexte, commande);
+    }
+}
@@ -0,0 +1,166 @@
+package comptoirs.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.dao.ConcurrencyFailureException;
+
+import comptoirs.service.CommandeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Contention sur un produit "vedette" et sur quelques commandes en cours, partagés par un nombre croissant
+ * de threads (1, 2, 4... jusqu'à "threads max") : débit, conflits entre transactions
+ * (verrouillage optimiste, interblocages) et nouveaux essais
+ * (cf. Reessai, ReessaiAspect, métrique conflits).
+ * <pre>
+ *   java -cp target/benchmarks.jar comptoirs.benchmarks.ContentionCommandes [secondes] [threads max] [commandes en cours]
+ * </pre>
+ * Chaque thread choisit au hasard une des commandes en cours et y ajoute une ligne pour le produit vedette (3 fois sur 4)
+ * ou l'expédie (1 fois sur 4), seule (enregistreExpedition) ou avec une autre commande en cours (enregistreExpeditions) ;
+ * une commande expédiée est remplacée par une nouvelle commande.
+ * Plusieurs threads modifient donc en même temps les mêmes commandes et le même produit.
+ * A la fin, on vérifie les quantités du produit vedette :
+ * unitesCommandees doit être la quantité des lignes des commandes non expédiées, et la baisse de unitesEnStock
+ * celle des lignes des commandes expédiées (pas de ligne ajoutée à une commande déjà expédiée, pas de commande
+ * expédiée deux fois). Le code de sortie est 1 sinon.
+ */
+public class ContentionCommandes {
+    private static final String CLIENT = "ALFKI";
+
+    public static void main(String[] args) throws Exception {
+        int secondes = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int threadsMax = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int enCours = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        if (enCours < 2) {
+            throw new IllegalArgumentException("Au moins 2 commandes en cours (vagues de deux commandes)");
+        }
+
+        var contexte = new ContexteComptoirs();
+        contexte.demarrer();
+        boolean coherent;
+        try {
+            var service = contexte.bean(CommandeService.class);
+            var metriques = contexte.bean(MeterRegistry.class);
+            int produit = contexte.produits.get(0);
+            var etatInitial = contexte.jdbc().queryForMap(
+                "SELECT unites_en_stock, unites_commandees FROM Produit WHERE reference = ?", produit);
+            int premiereCommande = contexte.jdbc().queryForObject("SELECT MAX(numero) FROM Commande", Integer.class);
+
+            var commandes = new AtomicReferenceArray<Integer>(enCours);
+            for (int i = 0; i < enCours; i++) {
+                commandes.set(i, service.creerCommande(CLIENT).getNumero());
+            }
+            // Préchauffage
+            executer(service, commandes, produit, 4, 2);
+
+            System.out.printf("%nProduit %d, %d commandes en cours, %d s par mesure%n", produit, enCours, secondes);
+            System.out.printf("%7s %12s %12s %16s %12s %10s %8s%n", "threads", "opérations/s", "conflits/s",
+                "essais/opération", "abandons", "refusées", "erreurs");
+            for (int threads = 1; threads <= threadsMax; threads *= 2) {
+                double reessaisAvant = somme(metriques, "reessai");
+                double abandonsAvant = somme(metriques, "abandon");
+                var resultat = executer(service, commandes, produit, threads, secondes);
+                double reessais = somme(metriques, "reessai") - reessaisAvant;
+                double abandons = somme(metriques, "abandon") - abandonsAvant;
+                // Chaque opération réussie ou refusée a fait un premier essai, plus ses nouveaux essais
+                System.out.printf("%7d %12.0f %12.1f %16.3f %12.0f %10d %8d%n", threads,
+                    resultat.operations() / (double) secondes,
+                    (reessais + abandons) / secondes,
+                    1 + reessais / Math.max(1, resultat.operations() + resultat.refusees() + (long) abandons),
+                    abandons, resultat.refusees(), resultat.erreurs());
+            }
+
+            // Vérification des quantités du produit vedette, d'après les lignes des commandes créées ici
+            var etat = contexte.jdbc().queryForMap(
+                "SELECT unites_en_stock, unites_commandees FROM Produit WHERE reference = ?", produit);
+            int expediee = quantite(contexte, produit, premiereCommande, true);
+            int enAttente = quantite(contexte, produit, premiereCommande, false);
+            int sortie = (Integer) etatInitial.get("unites_en_stock") - (Integer) etat.get("unites_en_stock");
+            int commandee = (Integer) etat.get("unites_commandees") - (Integer) etatInitial.get("unites_commandees");
+            coherent = sortie == expediee && commandee == enAttente;
+            System.out.printf("%nSortie du stock %d (lignes expédiées %d), commandées %d (lignes non expédiées %d) : %s%n",
+                sortie, expediee, commandee, enAttente, coherent ? "OK" : "ÉCHEC");
+        } finally {
+            contexte.arreter();
+        }
+        System.exit(coherent ? 0 : 1);
+    }
+
+    record Resultat(long operations, int refusees, int erreurs) { }
+
+    /**
+     * Ajoute des lignes aux commandes en cours et les expédie, depuis plusieurs threads, pendant une durée donnée
+     */
+    private static Resultat executer(CommandeService service, AtomicReferenceArray<Integer> commandes, int produit,
+                                     int threads, int secondes) throws InterruptedException {
+        var operations = new AtomicInteger();
+        var refusees = new AtomicInteger();
+        var erreurs = new AtomicInteger();
+        var fini = new AtomicBoolean();
+        var executants = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            var thread = new Thread(() -> {
+                var hasard = ThreadLocalRandom.current();
+                while (!fini.get()) {
+                    int i = hasard.nextInt(commandes.length());
+                    Integer numero = commandes.get(i);
+                    try {
+                        int choix = hasard.nextInt(8);
+                        if (choix > 1) {
+                            service.ajouterLigne(numero, produit, 1);
+                        } else if (choix == 1) {
+                            service.enregistreExpedition(numero);
+                            commandes.compareAndSet(i, numero, service.creerCommande(CLIENT).getNumero());
+                        } else {
+                            // Une vague de deux commandes (cf. enregistreExpeditions)
+                            int j = (i + 1 + hasard.nextInt(commandes.length() - 1)) % commandes.length();
+                            Integer autre = commandes.get(j);
+                            service.enregistreExpeditions(List.of(numero, autre));
+                            commandes.compareAndSet(i, numero, service.creerCommande(CLIENT).getNumero());
+                            commandes.compareAndSet(j, autre, service.creerCommande(CLIENT).getNumero());
+                        }
+                        operations.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        refusees.incrementAndGet(); // Commande expédiée entre temps, par un autre thread
+                    } catch (ConcurrencyFailureException e) {
+                        // Abandon après le dernier essai : compté par la métrique conflits
+                    } catch (RuntimeException e) {
+                        erreurs.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            executants.add(thread);
+        }
+        Thread.sleep(secondes * 1000L);
+        fini.set(true);
+        for (var thread : executants) {
+            thread.join();
+        }
+        return new Resultat(operations.get(), refusees.get(), erreurs.get());
+    }
+
+    /**
+     * @return le total de la métrique conflits pour cette issue (reessai ou abandon), toutes méthodes
+     */
+    private static double somme(MeterRegistry metriques, String issue) {
+        return metriques.find("conflits").tag("issue", issue).counters().stream()
+            .mapToDouble(Counter::count).sum();
+    }
+
+    /**
+     * @return la quantité du produit dans les lignes des commandes créées par le benchmark, expédiées ou non
+     */
+    private static int quantite(ContexteComptoirs contexte, int produit, int premiereCommande, boolean expediees) {
+        return contexte.jdbc().queryForObject("SELECT COALESCE(SUM(li.quantite), 0) FROM Ligne li "
+                + "JOIN Commande c ON c.numero = li.commande_numero "
+                + "WHERE li.produit_reference = ? AND c.numero > ? AND c.envoyeele IS " + (expediees ? "NOT NULL" : "NULL"),
+            Integer.class, produit, premiereCommande);
+    }
+}
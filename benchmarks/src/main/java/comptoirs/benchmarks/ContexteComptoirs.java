@@ -0,0 +1,102 @@
+package comptoirs.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import comptoirs.WebApp;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Le contexte Spring de l'application, démarré une fois par benchmark.
+ * On utilise le profil par défaut : SGBD H2 en mémoire vive, initialisé par data.sql.
+ * Les logs SQL (très verbeux dans application.properties) sont désactivés pour ne pas fausser les mesures.
+ * H2 ne réutilise pas le résultat d'une requête répétée à l'identique (OPTIMIZE_REUSE_RESULTS) :
+ * sinon, tant que les tables ne changent pas, une requête mesurée en boucle ne serait exécutée qu'une fois.
+ * Comme dans application.properties, H2 lit le résultat des requêtes au fur et à mesure (LAZY_QUERY_EXECUTION).
+ */
+@State(Scope.Benchmark)
+public class ContexteComptoirs {
+    private ConfigurableApplicationContext contexte;
+
+    /**
+     * Les références de tous les produits de la base
+     */
+    List<Integer> produits;
+
+    @Setup(Level.Trial)
+    public void demarrer() {
+        // Passés comme arguments de la ligne de commande : ils sont prioritaires sur application.properties
+        contexte = new SpringApplicationBuilder(WebApp.class)
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:testdb;OPTIMIZE_REUSE_RESULTS=FALSE;LAZY_QUERY_EXECUTION=1",
+                "--spring.jpa.show-sql=false",
+                "--spring.mvc.log-request-details=false",
+                "--logging.level.root=WARN",
+                "--logging.level.web=WARN",
+                "--logging.level.comptoirs=WARN",
+                "--logging.level.org.hibernate.type=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        // Les benchmarks ne doivent pas échouer sur les règles métier :
+        // tous les produits sont disponibles, avec un stock "infini"
+        jdbc().update("UPDATE Produit SET unites_en_stock = ?, unites_commandees = 0, indisponible = FALSE",
+            Integer.MAX_VALUE / 2);
+        // Les mises à jour par JDBC contournent le cache de second niveau de Hibernate
+        bean(EntityManagerFactory.class).getCache().evictAll();
+        produits = jdbc().queryForList("SELECT reference FROM Produit ORDER BY reference", Integer.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void arreter() {
+        contexte.close();
+    }
+
+    /**
+     * Ajoute un historique de commandes synthétique au client ALFKI (société "Alfreds Futterkiste") :
+     * des commandes contenant chacune une ligne (quantité 1) pour les premiers produits.
+     * Les clés sont choisies explicitement, au delà de celles des données initiales.
+     * Les compteurs dénormalisés ne sont pas mis à jour.
+     * @param nombreDeCommandes le nombre de commandes à ajouter
+     * @param lignesParCommande le nombre de lignes de chaque commande (au plus le nombre de produits)
+     */
+    public void genererHistorique(int nombreDeCommandes, int lignesParCommande) {
+        final int premiereCommande = 1_000_000;
+        final int premiereLigne = 1_000_000;
+        List<Object[]> commandes = new ArrayList<>();
+        List<Object[]> lignes = new ArrayList<>();
+        for (int i = 0; i < nombreDeCommandes; i++) {
+            commandes.add(new Object[] { premiereCommande + i });
+            for (int j = 0; j < lignesParCommande; j++) {
+                lignes.add(new Object[] { premiereLigne + lignes.size(), premiereCommande + i, produits.get(j) });
+            }
+        }
+        jdbc().batchUpdate("INSERT INTO Commande(numero, client_code, saisiele, remise) "
+            + "VALUES (?, 'ALFKI', CURRENT_DATE, 0)", commandes);
+        jdbc().batchUpdate("INSERT INTO Ligne(id, commande_numero, produit_reference, quantite) "
+            + "VALUES (?, ?, ?, 1)", lignes);
+    }
+
+    /**
+     * @param type le type du bean recherché
+     * @return le bean Spring de ce type
+     */
+    public <T> T bean(Class<T> type) {
+        return contexte.getBean(type);
+    }
+
+    /**
+     * @return un accès JDBC direct à la base, pour préparer les données
+     */
+    public JdbcTemplate jdbc() {
+        return contexte.getBean(JdbcTemplate.class);
+    }
+}
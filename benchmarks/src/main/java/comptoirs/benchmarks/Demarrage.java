@@ -0,0 +1,150 @@
+package comptoirs.benchmarks;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Temps de démarrage "à froid" de l'application (nouvelle JVM), du lancement du processus à la première réponse
+ * HTTP, avec la base initialisée par data.sql (profil par défaut) ou copiée depuis l'instantané (profil "instantane"),
+ * avec et sans traitement AOT de Spring et archive CDS (cf. application-instantane.properties).
+ * L'application doit d'abord être construite avec le profil Maven "instantane" :
+ * <pre>
+ *   mvn -Pinstantane verify
+ *   java -cp target/benchmarks.jar comptoirs.benchmarks.Demarrage [répétitions] [répertoire du projet]
+ * </pre>
+ * Les configurations sont démarrées à tour de rôle, une à la fois. La première réponse est celle de
+ * GET /api/produits/1 : ses données doivent être les mêmes pour toutes les configurations (même contenu de la
+ * base), sinon le code de sortie est 1.
+ */
+public class Demarrage {
+    private static final Duration DELAI_MAX = Duration.ofMinutes(3);
+
+    record Configuration(String nom, List<String> optionsJvm) { }
+
+    public static void main(String[] args) throws Exception {
+        int repetitions = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        var projet = Path.of(args.length > 1 ? args[1] : "..").toAbsolutePath().normalize();
+        var cible = projet.resolve("target");
+        var classes = Files.list(cible)
+            .filter(f -> f.getFileName().toString().endsWith("-classes.jar"))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Jar des classes absent de " + cible + " : mvn -Pinstantane verify"));
+        var archiveCds = cible.resolve("comptoirs.jsa");
+        if (!Files.exists(archiveCds) || !Files.isDirectory(cible.resolve("dependency"))) {
+            throw new IllegalStateException("Archive CDS ou dépendances absentes de " + cible + " : mvn -Pinstantane verify");
+        }
+        var classpath = classes + java.io.File.pathSeparator + cible.resolve("dependency") + "/*";
+
+        var configurations = List.of(
+            new Configuration("data.sql", List.of()),
+            new Configuration("instantané", List.of("-Dspring.profiles.active=instantane")),
+            new Configuration("instantané + AOT", List.of("-Dspring.profiles.active=instantane",
+                "-Dspring.aot.enabled=true")),
+            new Configuration("instantané + AOT + CDS", List.of("-Dspring.profiles.active=instantane",
+                "-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archiveCds, "-Xlog:cds=off")));
+
+        var mesures = new LinkedHashMap<Configuration, List<Long>>();
+        var reponses = new HashSet<String>();
+        var http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        for (int r = 0; r < repetitions; r++) {
+            for (var configuration : configurations) {
+                var mesure = demarrer(configuration, classpath, http);
+                mesures.computeIfAbsent(configuration, c -> new ArrayList<>()).add(mesure.duree());
+                reponses.add(mesure.reponse());
+                System.out.printf("%-25s %6d ms%n", configuration.nom(), mesure.duree());
+            }
+        }
+
+        System.out.printf("%n%d démarrages par configuration, jusqu'à la première réponse HTTP (ms)%n", repetitions);
+        long reference = mediane(mesures.get(configurations.get(0)));
+        for (var entree : mesures.entrySet()) {
+            var durees = entree.getValue();
+            long mediane = mediane(durees);
+            System.out.printf("%-25s min %6d  médiane %6d  max %6d  (x %.2f)%n", entree.getKey().nom(),
+                Collections.min(durees), mediane, Collections.max(durees), reference / (double) mediane);
+        }
+        boolean identiques = reponses.size() == 1;
+        System.out.println(identiques ? "Même contenu de la base pour toutes les configurations"
+            : "Contenus différents : " + reponses);
+        System.exit(identiques ? 0 : 1);
+    }
+
+    record Mesure(long duree, String reponse) { }
+
+    /**
+     * Démarre l'application dans une nouvelle JVM, attend sa première réponse HTTP, puis l'arrête
+     */
+    private static Mesure demarrer(Configuration configuration, String classpath, HttpClient http) throws Exception {
+        int port = portLibre();
+        var commande = new ArrayList<String>();
+        commande.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        commande.addAll(configuration.optionsJvm());
+        commande.addAll(List.of("-cp", classpath, "comptoirs.WebApp",
+            "--server.port=" + port,
+            "--spring.main.banner-mode=off",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.web=WARN",
+            "--logging.level.comptoirs=WARN"));
+        var journal = Files.createTempFile("demarrage-", ".log");
+        var requete = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/produits/1"))
+            .timeout(Duration.ofSeconds(5)).GET().build();
+        long debut = System.nanoTime();
+        var processus = new ProcessBuilder(commande).redirectErrorStream(true).redirectOutput(journal.toFile()).start();
+        try {
+            while (System.nanoTime() - debut < DELAI_MAX.toNanos()) {
+                if (!processus.isAlive()) {
+                    throw new IllegalStateException(configuration.nom() + " : arrêt pendant le démarrage\n" + fin(journal));
+                }
+                try {
+                    var reponse = http.send(requete, HttpResponse.BodyHandlers.ofString());
+                    if (reponse.statusCode() == 200) {
+                        long duree = (System.nanoTime() - debut) / 1_000_000;
+                        // Seules les données sont comparées : les liens contiennent le port, différent à chaque
+                        // démarrage, et leur ordre n'est pas le même avec et sans AOT
+                        var corps = reponse.body();
+                        return new Mesure(duree, corps.substring(0, corps.indexOf("\"_links\"")));
+                    }
+                } catch (IOException e) {
+                    // Pas encore démarrée
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException(configuration.nom() + " : pas de réponse après " + DELAI_MAX + "\n" + fin(journal));
+        } finally {
+            processus.destroy();
+            processus.waitFor();
+            Files.deleteIfExists(journal);
+        }
+    }
+
+    private static int portLibre() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String fin(Path journal) throws IOException {
+        var lignes = Files.readAllLines(journal);
+        return String.join("\n", lignes.subList(Math.max(0, lignes.size() - 30), lignes.size()));
+    }
+
+    private static long mediane(List<Long> durees) {
+        var triees = new ArrayList<>(durees);
+        Collections.sort(triees);
+        return triees.get(triees.size() / 2);
+    }
+}
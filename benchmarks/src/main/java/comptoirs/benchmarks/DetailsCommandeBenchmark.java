@@ -0,0 +1,96 @@
+package comptoirs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import comptoirs.dao.CommandeRepository;
+import comptoirs.entity.Commande;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Détails d'une commande en JSON (GET /services/commande/other/projection/{numero}) :
+ * projection "interface" sur l'entité Commande (l'ancienne implémentation, cf. CommandeProjection),
+ * comparée aux records CommandeDetails construits par une seule requête.
+ * On mesure la requête et la production du JSON, dans une transaction en lecture seule.
+ * Le nombre de requêtes SQL de chaque version est affiché au démarrage.
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DetailsCommandeBenchmark {
+    int numero;
+    TransactionTemplate transaction;
+    EntityManager entityManager;
+    CommandeRepository commandeDao;
+    ObjectMapper json;
+    SpelAwareProxyProjectionFactory projections = new SpelAwareProxyProjectionFactory();
+
+    @Setup(Level.Trial)
+    public void preparer(ContexteComptoirs contexte) {
+        // La commande qui a le plus de lignes
+        numero = contexte.jdbc().queryForObject("SELECT commande_numero FROM Ligne "
+            + "GROUP BY commande_numero ORDER BY COUNT(*) DESC LIMIT 1", Integer.class);
+        transaction = new TransactionTemplate(contexte.bean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+        entityManager = contexte.bean(EntityManager.class);
+        commandeDao = contexte.bean(CommandeRepository.class);
+        json = contexte.bean(ObjectMapper.class);
+
+        var statistiques = contexte.bean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistiques.setStatisticsEnabled(true);
+        statistiques.clear();
+        projectionInterface();
+        long requetesProjection = statistiques.getPrepareStatementCount();
+        statistiques.clear();
+        recordsCommandeDetails();
+        long requetesRecords = statistiques.getPrepareStatementCount();
+        statistiques.setStatisticsEnabled(false);
+        System.out.printf("Commande %d, requêtes SQL : projection interface = %d, CommandeDetails = %d%n",
+            numero, requetesProjection, requetesRecords);
+    }
+
+    @Benchmark
+    public byte[] projectionInterface() {
+        return transaction.execute(status -> {
+            var commande = entityManager
+                .createQuery("select c from Commande c where c.numero = :numero", Commande.class)
+                .setParameter("numero", numero)
+                .getSingleResult();
+            return ecrire(projections.createProjection(CommandeProjection.class, commande));
+        });
+    }
+
+    @Benchmark
+    public byte[] recordsCommandeDetails() {
+        return transaction.execute(status -> ecrire(commandeDao.findDetailsByNumero(numero).orElseThrow()));
+    }
+
+    private byte[] ecrire(Object valeur) {
+        try {
+            return json.writeValueAsBytes(valeur);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
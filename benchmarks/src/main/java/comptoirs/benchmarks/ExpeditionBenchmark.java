@@ -0,0 +1,72 @@
+package comptoirs.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import comptoirs.service.CommandeService;
+
+/**
+ * Expédition d'une vague de 1000 commandes de 5 lignes : 1000 appels à enregistreExpedition
+ * (une transaction par commande), comparés à un seul appel à enregistreExpeditions (une transaction,
+ * 3 requêtes pour toute la vague).
+ * Avant chaque expédition, les commandes de la vague redeviennent "non envoyées".
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpeditionBenchmark {
+    private static final int COMMANDES = 1000;
+    private static final int LIGNES_PAR_COMMANDE = 5;
+
+    List<Integer> vague;
+    ContexteComptoirs contexte;
+
+    @Setup(Level.Trial)
+    public void preparer(ContexteComptoirs contexte) {
+        this.contexte = contexte;
+        contexte.genererHistorique(COMMANDES, LIGNES_PAR_COMMANDE);
+        vague = contexte.jdbc().queryForList(
+            "SELECT numero FROM Commande WHERE client_code = 'ALFKI' AND envoyeele IS NULL ORDER BY numero DESC "
+            + "FETCH FIRST " + COMMANDES + " ROWS ONLY", Integer.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void annulerExpedition() {
+        // Le stock des produits est "infini" (cf. ContexteComptoirs) : il n'est pas rétabli
+        contexte.jdbc().update("UPDATE Commande SET envoyeele = NULL WHERE numero IN ("
+            + String.join(",", IntStream.range(0, vague.size()).mapToObj(i -> "?").toList()) + ")",
+            vague.toArray());
+    }
+
+    @Benchmark
+    public int uneTransactionParCommande() {
+        var service = contexte.bean(CommandeService.class);
+        int expediees = 0;
+        for (var numero : vague) {
+            service.enregistreExpedition(numero);
+            expediees++;
+        }
+        return expediees;
+    }
+
+    @Benchmark
+    public int uneTransactionParVague() {
+        return contexte.bean(CommandeService.class).enregistreExpeditions(vague);
+    }
+}
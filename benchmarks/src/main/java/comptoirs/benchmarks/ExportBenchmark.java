@@ -0,0 +1,95 @@
+package comptoirs.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import comptoirs.service.ExportService;
+
+/**
+ * Export de toutes les commandes au format NDJSON (cf. CommandeController.exporter), sans le transfert HTTP :
+ * le JSON est écrit dans un flux qui ne fait que compter les octets.
+ * Le client ALFKI reçoit un historique synthétique (5 lignes par commande) en plus des données de data.sql.
+ * On vérifie que toutes les commandes sont exportées. Le profileur "gc" donne les octets alloués par export :
+ * le tas effectivement occupé, lui, ne doit pas dépendre du nombre de commandes (à vérifier avec une option -Xmx
+ * réduite : l'export complet ne doit pas provoquer d'OutOfMemoryError).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+    private static final int LIGNES_PAR_COMMANDE = 5;
+
+    /**
+     * Le nombre de commandes ajoutées à celles de data.sql
+     */
+    @Param({"10000", "200000"})
+    int commandes;
+
+    int attendues;
+    ExportService exportService;
+    ObjectWriter ndjson;
+
+    @Setup(Level.Trial)
+    public void preparer(ContexteComptoirs contexte) {
+        contexte.genererHistorique(commandes, LIGNES_PAR_COMMANDE);
+        attendues = contexte.jdbc().queryForObject("SELECT COUNT(*) FROM Commande", Integer.class);
+        exportService = contexte.bean(ExportService.class);
+        ndjson = contexte.bean(ObjectMapper.class).writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Benchmark
+    public long exporter() {
+        var sortie = new Compteur();
+        int exportees = exportService.exporterCommandes(commande -> {
+            try {
+                sortie.write(ndjson.writeValueAsBytes(commande));
+                sortie.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        if (exportees != attendues) {
+            throw new IllegalStateException(exportees + " commandes exportées au lieu de " + attendues);
+        }
+        return sortie.octets;
+    }
+
+    /**
+     * Un flux qui ne conserve pas ce qu'on y écrit
+     */
+    static class Compteur extends OutputStream {
+        long octets;
+
+        @Override
+        public void write(int b) {
+            octets++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            octets += len;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package comptoirs.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import comptoirs.dto.CommandeDTO;
+import comptoirs.dto.CommandeMapper;
+import comptoirs.entity.Categorie;
+import comptoirs.entity.Client;
+import comptoirs.entity.Commande;
+import comptoirs.entity.Ligne;
+import comptoirs.entity.Produit;
+
+/**
+ * Conversion d'une commande (entités en mémoire, sans base de données) en CommandeDTO :
+ * ModelMapper (réflexion) comparé à CommandeMapper (écrit "à la main").
+ * Les deux conversions produisent des DTO identiques : cf. CommandeMapperTest (src/test/java).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+    @Param({"1", "20"})
+    int nombreDeLignes;
+
+    Commande commande;
+    ModelMapper modelMapper;
+    CommandeMapper commandeMapper;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        var client = new Client("ALFKI", "Alfreds Futterkiste");
+        client.setContact("Maria Anders");
+        commande = new Commande(client);
+        var categorie = new Categorie("Boissons");
+        for (int i = 0; i < nombreDeLignes; i++) {
+            var produit = new Produit("Produit " + i, categorie);
+            produit.setPrixUnitaire(BigDecimal.valueOf(10 + i));
+            commande.getLignes().add(new Ligne(commande, produit, i + 1));
+        }
+        modelMapper = new ModelMapper();
+        commandeMapper = new CommandeMapper();
+    }
+
+    @Benchmark
+    public CommandeDTO modelMapper() {
+        return modelMapper.map(commande, CommandeDTO.class);
+    }
+
+    @Benchmark
+    public CommandeDTO commandeMapper() {
+        return commandeMapper.toDTO(commande);
+    }
+}
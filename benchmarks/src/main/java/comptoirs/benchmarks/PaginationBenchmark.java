@@ -0,0 +1,91 @@
+package comptoirs.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import comptoirs.dao.CommandeRepository;
+import comptoirs.entity.Commande;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Lecture d'une page de 20 commandes d'un client qui a un très long historique (100 000 commandes),
+ * en fonction de la position de la page : pagination par OFFSET comparée à la pagination "keyset".
+ * Les deux requêtes lisent l'index (client_code, numero) dans l'ordre, mais OFFSET doit parcourir et ignorer
+ * toutes les commandes des pages précédentes.
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaginationBenchmark {
+    private static final String CLIENT = "ALFKI";
+    private static final int TAILLE = 20;
+    private static final int COMMANDES = 100_000;
+
+    /**
+     * Le numéro de la page lue (la première page a le numéro 0)
+     */
+    @Param({"0", "100", "4000"})
+    int page;
+
+    int curseur;
+    TransactionTemplate transaction;
+    EntityManager entityManager;
+    CommandeRepository commandeDao;
+
+    @Setup(Level.Trial)
+    public void preparer(ContexteComptoirs contexte) {
+        contexte.genererHistorique(COMMANDES, 1);
+        transaction = new TransactionTemplate(contexte.bean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+        entityManager = contexte.bean(EntityManager.class);
+        commandeDao = contexte.bean(CommandeRepository.class);
+        // Le curseur de la page : le numéro de la dernière commande de la page précédente
+        curseur = page == 0 ? 0 : contexte.jdbc().queryForObject(
+            "SELECT numero FROM Commande WHERE client_code = ? ORDER BY numero OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY",
+            Integer.class, CLIENT, page * TAILLE - 1);
+        if (!offset().equals(keyset())) {
+            throw new IllegalStateException("Les deux paginations ne donnent pas la même page");
+        }
+    }
+
+    @Benchmark
+    public List<Integer> offset() {
+        return transaction.execute(status -> entityManager
+            .createQuery("select c from Commande c where c.client.code = :codeClient order by c.client.code, c.numero",
+                Commande.class)
+            .setParameter("codeClient", CLIENT)
+            .setFirstResult(page * TAILLE)
+            .setMaxResults(TAILLE)
+            .getResultStream()
+            .map(Commande::getNumero)
+            .toList());
+    }
+
+    @Benchmark
+    public List<Integer> keyset() {
+        return transaction.execute(status -> commandeDao
+            .findByClientCodeApres(CLIENT, curseur, Limit.of(TAILLE))
+            .stream()
+            .map(Commande::getNumero)
+            .toList());
+    }
+}
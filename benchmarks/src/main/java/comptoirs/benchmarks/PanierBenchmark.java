@@ -0,0 +1,63 @@
+package comptoirs.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import comptoirs.entity.Commande;
+import comptoirs.service.CommandeService;
+import comptoirs.service.PanierService;
+
+/**
+ * Saisie complète d'une commande de 50 lignes, ligne par ligne :
+ * creerCommande puis 50 appels à ajouterLigne (une transaction par étape),
+ * comparés à un panier en mémoire (aucune requête SQL par ligne) validé en une seule transaction.
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class PanierBenchmark {
+    private static final String CLIENT = "ALFKI";
+    private static final int NOMBRE_DE_LIGNES = 50;
+
+    List<Integer> produits;
+
+    @Setup
+    public void preparer(ContexteComptoirs contexte) {
+        produits = contexte.produits.subList(0, NOMBRE_DE_LIGNES);
+    }
+
+    @Benchmark
+    public int uneTransactionParLigne(ContexteComptoirs contexte) {
+        var service = contexte.bean(CommandeService.class);
+        int numero = service.creerCommande(CLIENT).getNumero();
+        int total = 0;
+        for (var produit : produits) {
+            total += service.ajouterLigne(numero, produit, 1).getQuantite();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Commande panier(ContexteComptoirs contexte) {
+        var service = contexte.bean(PanierService.class);
+        var id = service.creer(CLIENT).id();
+        for (var produit : produits) {
+            service.ajouter(id, produit, 1);
+        }
+        return service.valider(id);
+    }
+}
@@ -0,0 +1,248 @@
+package comptoirs.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import comptoirs.dao.ProduitRepository;
+import comptoirs.dto.UnitesParProduit;
+import comptoirs.service.CalculPartage;
+import comptoirs.service.CompteursService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Rafales de demandes identiques simultanées (ex: plusieurs tableaux de bord rafraîchis en même temps),
+ * avec et sans partage du calcul (cf. CalculPartage, StatistiquesService).
+ * <pre>
+ *   java -cp target/benchmarks.jar comptoirs.benchmarks.RafaleStatistiques [demandes par rafale] [rafales] [lignes]
+ * </pre>
+ * <ol>
+ * <li>Vérifications de CalculPartage, sans base de données : un seul calcul pour des appels simultanés,
+ *     même résultat pour tous, erreur transmise à tous et non conservée, fraicheur respectée.
+ *     Le code de sortie est 1 si une vérification échoue.</li>
+ * <li>Requête GROUP BY ProduitRepository.produitsVendusPour (avec "lignes" lignes de commande ajoutées) :
+ *     nombre de requêtes SQL et latence par demande, avec et sans partage.</li>
+ * <li>Par HTTP, GET /services/stats/unitesVenduesPourCategorie/1, avec la configuration de l'application
+ *     (fraicheur, cloison "stats") : nombre de requêtes SQL et latence par demande.
+ *     Les rafales sont espacées de plus que comptoirs.stats.fraicheur.</li>
+ * </ol>
+ * Les requêtes SQL sont comptées par les statistiques de Hibernate (hibernate.generate_statistics).
+ */
+public class RafaleStatistiques {
+    private static final int CATEGORIE = 1;
+    private static int echecs = 0;
+
+    public static void main(String[] args) throws Exception {
+        int demandes = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int rafales = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int lignes = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+
+        verifier(demandes);
+
+        var contexte = new ContexteComptoirs();
+        contexte.demarrer();
+        try {
+            int lignesParCommande = contexte.produits.size();
+            contexte.genererHistorique(lignes / lignesParCommande, lignesParCommande);
+            contexte.bean(CompteursService.class).reconstruireUnitesVendues();
+            var statistiques = contexte.bean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+            var produitDao = contexte.bean(ProduitRepository.class);
+            var lecture = new TransactionTemplate(contexte.bean(PlatformTransactionManager.class));
+            lecture.setReadOnly(true);
+            Supplier<List<UnitesParProduit>> groupBy = () -> lecture.execute(s -> produitDao.produitsVendusPour(CATEGORIE));
+            groupBy.get(); // Préchauffage
+
+            System.out.printf("%n== GROUP BY produitsVendusPour, %d lignes ajoutées, %d rafales de %d demandes%n",
+                lignes, rafales, demandes);
+            mesurer("sans partage", demandes, rafales, 0, statistiques, groupBy);
+            var partage = new CalculPartage<Integer, List<UnitesParProduit>>("rafale", Duration.ZERO, 1,
+                new SimpleMeterRegistry());
+            mesurer("avec partage", demandes, rafales, 0, statistiques, () -> partage.obtenir(CATEGORIE, groupBy));
+
+            var url = "http://localhost:" + contexte.bean(Environment.class).getProperty("local.server.port")
+                + "/services/stats/unitesVenduesPourCategorie/" + CATEGORIE;
+            var fraicheur = contexte.bean(Environment.class).getProperty("comptoirs.stats.fraicheur", Duration.class);
+            var http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            var requete = HttpRequest.newBuilder(URI.create(url)).GET().build();
+            Supplier<String> get = () -> {
+                try {
+                    var reponse = http.send(requete, HttpResponse.BodyHandlers.ofString());
+                    if (reponse.statusCode() != 200) {
+                        throw new IllegalStateException("Statut " + reponse.statusCode());
+                    }
+                    return reponse.body();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+            get.get(); // Préchauffage (et ouverture de connexions HTTP)
+            System.out.printf("%n== GET %s (fraicheur %s)%n", url, fraicheur);
+            mesurer("HTTP", demandes, rafales, fraicheur.toMillis() + 500, statistiques, get);
+        } finally {
+            contexte.arreter();
+        }
+        System.out.println(echecs == 0 ? "Toutes les vérifications sont réussies" : echecs + " vérification(s) échouée(s)");
+        System.exit(echecs == 0 ? 0 : 1);
+    }
+
+    /**
+     * Envoie des rafales de demandes simultanées (un thread par demande, tous libérés en même temps)
+     * et affiche le nombre de requêtes SQL par rafale et la latence des demandes
+     */
+    private static void mesurer(String nom, int demandes, int rafales, long pauseMs, Statistics statistiques,
+                                Supplier<?> demande) throws InterruptedException {
+        var latences = new ConcurrentLinkedQueue<Long>();
+        var erreurs = new AtomicInteger();
+        statistiques.clear();
+        long debutTotal = System.nanoTime();
+        for (int r = 0; r < rafales; r++) {
+            var depart = new CountDownLatch(1);
+            var threads = new ArrayList<Thread>();
+            for (int i = 0; i < demandes; i++) {
+                var thread = new Thread(() -> {
+                    try {
+                        depart.await();
+                        long debut = System.nanoTime();
+                        demande.get();
+                        latences.add((System.nanoTime() - debut) / 1_000);
+                    } catch (Exception e) {
+                        erreurs.incrementAndGet();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            depart.countDown();
+            for (var thread : threads) {
+                thread.join();
+            }
+            Thread.sleep(pauseMs);
+        }
+        long dureeMs = (System.nanoTime() - debutTotal) / 1_000_000 - rafales * pauseMs;
+        var triees = new ArrayList<>(latences);
+        Collections.sort(triees);
+        System.out.printf("%-13s requêtes SQL par rafale %6.1f | latence (ms) p50 %7.1f  p99 %7.1f  max %7.1f"
+                + " | %5d ms pour %d rafales | erreurs %d%n",
+            nom, statistiques.getPrepareStatementCount() / (double) rafales,
+            centile(triees, 0.50), centile(triees, 0.99), centile(triees, 1.0), dureeMs, rafales, erreurs.get());
+    }
+
+    private static double centile(List<Long> triees, double centile) {
+        if (triees.isEmpty()) {
+            return Double.NaN;
+        }
+        return triees.get((int) Math.min(triees.size() - 1, Math.ceil(centile * triees.size()) - 1)) / 1000.0;
+    }
+
+    /**
+     * Vérifications du partage, avec un calcul contrôlé par le test (pas de base de données)
+     */
+    private static void verifier(int demandes) throws InterruptedException {
+        System.out.println("== Vérifications de CalculPartage");
+        var metriques = new SimpleMeterRegistry();
+        var partage = new CalculPartage<String, Object>("verification", Duration.ZERO, 1, metriques);
+        var calculs = new AtomicInteger();
+
+        // 1. Appels simultanés : un seul calcul, terminé quand tous les autres appels l'attendent
+        var resultat = new Object();
+        var resultats = simultanes(demandes, () -> partage.obtenir("cle", () -> {
+            calculs.incrementAndGet();
+            attendreAttentes(metriques, "verification", demandes - 1);
+            return resultat;
+        }));
+        controler("un seul calcul pour " + demandes + " appels simultanés", calculs.get() == 1);
+        controler("même résultat pour tous les appels",
+            resultats.size() == demandes && resultats.stream().allMatch(r -> r == resultat));
+
+        // 2. Erreur : transmise à tous les appels en attente, puis oubliée
+        var erreur = new IllegalStateException("erreur du calcul");
+        var attentesAvant = (int) metriques.counter("calcul.partage", "nom", "verification", "resultat", "attente").count();
+        var recues = simultanes(demandes, () -> {
+            try {
+                return partage.obtenir("cle", () -> {
+                    calculs.incrementAndGet();
+                    attendreAttentes(metriques, "verification", attentesAvant + demandes - 1);
+                    throw erreur;
+                });
+            } catch (IllegalStateException e) {
+                return e;
+            }
+        });
+        controler("erreur transmise à tous les appels",
+            calculs.get() == 2 && recues.size() == demandes && recues.stream().allMatch(r -> r == erreur));
+        partage.obtenir("cle", () -> calculs.incrementAndGet());
+        controler("erreur non conservée", calculs.get() == 3);
+
+        // 3. Fraicheur : résultat réutilisé pendant 200 ms, recalculé ensuite ; clés distinctes non partagées
+        var recent = new CalculPartage<String, Integer>("fraicheur", Duration.ofMillis(200), 10, metriques);
+        var nombre = new AtomicInteger();
+        recent.obtenir("a", nombre::incrementAndGet);
+        recent.obtenir("a", nombre::incrementAndGet);
+        controler("résultat réutilisé pendant la fraicheur", nombre.get() == 1);
+        recent.obtenir("b", nombre::incrementAndGet);
+        controler("clés distinctes : calculs distincts", nombre.get() == 2);
+        Thread.sleep(300);
+        controler("résultat recalculé après la fraicheur", recent.obtenir("a", nombre::incrementAndGet) == 3);
+    }
+
+    /**
+     * Lance des appels simultanés et renvoie leurs résultats
+     */
+    private static List<Object> simultanes(int nombre, Supplier<Object> appel) throws InterruptedException {
+        var resultats = Collections.synchronizedList(new ArrayList<>());
+        var depart = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < nombre; i++) {
+            var thread = new Thread(() -> {
+                try {
+                    depart.await();
+                    resultats.add(appel.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        depart.countDown();
+        for (var thread : threads) {
+            thread.join(10_000);
+        }
+        return resultats;
+    }
+
+    /**
+     * Attend (au plus 10 s) que le nombre total d'appels ayant attendu un calcul en cours atteigne "attendus"
+     */
+    private static void attendreAttentes(SimpleMeterRegistry metriques, String nom, int attendus) {
+        var compteur = metriques.counter("calcul.partage", "nom", nom, "resultat", "attente");
+        long fin = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (compteur.count() < attendus && System.nanoTime() < fin) {
+            Thread.onSpinWait();
+            Thread.yield();
+        }
+    }
+
+    private static void controler(String verification, boolean reussie) {
+        System.out.printf("%-55s %s%n", verification, reussie ? "OK" : "ÉCHEC");
+        if (!reussie) {
+            echecs++;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package comptoirs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import comptoirs.dao.ProduitRepository;
+import comptoirs.entity.Produit;
+import comptoirs.service.CommandeService;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Réservation concurrente d'un même produit ("produit vedette") par 32 threads.
+ * Le stock du produit est limité : la plupart des tentatives échouent ("Pas assez de stock").
+ * A la fin de chaque itération, on vérifie qu'il n'y a pas eu de survente :
+ * les quantités des lignes enregistrées doivent correspondre exactement à Produit.unitesCommandees,
+ * qui ne doit pas dépasser Produit.unitesEnStock. Sinon le benchmark échoue.
+ * Il échoue aussi si le produit lu par Hibernate (dans le cache de second niveau) n'a pas les mêmes
+ * quantités que la base : les réservations (requêtes UPDATE) doivent invalider le cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(32)
+public class ReservationStockBenchmark {
+    private static final String CLIENT = "ALFKI";
+    private static final int STOCK = 1000;
+
+    @State(Scope.Benchmark)
+    public static class ProduitVedette {
+        int reference;
+        int quantiteAvant;
+
+        @Setup(Level.Iteration)
+        public void reapprovisionner(ContexteComptoirs contexte) {
+            reference = contexte.produits.get(0);
+            contexte.jdbc().update("UPDATE Produit SET unites_en_stock = ?, unites_commandees = 0 WHERE reference = ?",
+                STOCK, reference);
+            quantiteAvant = quantiteEnLignes(contexte);
+            // La mise à jour par JDBC contourne le cache de second niveau : on en retire le produit,
+            // puis on l'y replace en le relisant
+            contexte.bean(EntityManagerFactory.class).getCache().evict(Produit.class, reference);
+            contexte.bean(ProduitRepository.class).findById(reference);
+        }
+
+        @TearDown(Level.Iteration)
+        public void verifierAbsenceDeSurvente(ContexteComptoirs contexte) {
+            int reservee = quantiteEnLignes(contexte) - quantiteAvant;
+            var etat = contexte.jdbc().queryForMap(
+                "SELECT unites_en_stock, unites_commandees FROM Produit WHERE reference = ?", reference);
+            int stock = (Integer) etat.get("unites_en_stock");
+            int commandees = (Integer) etat.get("unites_commandees");
+            if (commandees != reservee || commandees > stock) {
+                throw new IllegalStateException("Survente : stock=" + stock
+                    + ", unitesCommandees=" + commandees + ", quantité en lignes=" + reservee);
+            }
+            var produit = contexte.bean(ProduitRepository.class).findById(reference).orElseThrow();
+            if (produit.getUnitesEnStock() != stock || produit.getUnitesCommandees() != commandees) {
+                throw new IllegalStateException("Cache de second niveau périmé : stock=" + produit.getUnitesEnStock()
+                    + ", unitesCommandees=" + produit.getUnitesCommandees() + " au lieu de " + stock + ", " + commandees);
+            }
+        }
+
+        private int quantiteEnLignes(ContexteComptoirs contexte) {
+            return contexte.jdbc().queryForObject(
+                "SELECT COALESCE(SUM(quantite), 0) FROM Ligne WHERE produit_reference = ?", Integer.class, reference);
+        }
+    }
+
+    /**
+     * Une tentative de réservation : une nouvelle commande avec une ligne pour le produit vedette
+     * @return true si la réservation a réussi
+     */
+    @Benchmark
+    public boolean reserver(ContexteComptoirs contexte, ProduitVedette produit) {
+        var service = contexte.bean(CommandeService.class);
+        var commande = service.creerCommande(CLIENT);
+        try {
+            service.ajouterLigne(commande.getNumero(), produit.reference, 1);
+            return true;
+        } catch (IllegalStateException e) {
+            return false; // Pas assez de stock
+        }
+    }
+}
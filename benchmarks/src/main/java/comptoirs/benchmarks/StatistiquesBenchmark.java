@@ -0,0 +1,62 @@
+package comptoirs.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import comptoirs.dao.ProduitRepository;
+import comptoirs.dto.UnitesParProduit;
+import comptoirs.service.CompteursService;
+
+/**
+ * Unités vendues par produit d'une catégorie : requête GROUP BY sur les lignes de commande,
+ * comparée à la lecture des compteurs pré-calculés Produit.unitesVendues,
+ * en fonction du nombre de lignes de commande dans la base.
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatistiquesBenchmark {
+    private static final int CATEGORIE = 1;
+
+    /**
+     * Nombre de lignes de commande ajoutées aux données initiales (environ 2 000 lignes)
+     */
+    @Param({"0", "20000", "200000"})
+    int lignesSupplementaires;
+
+    ProduitRepository produitDao;
+
+    @Setup(Level.Trial)
+    public void preparer(ContexteComptoirs contexte) {
+        int lignesParCommande = contexte.produits.size();
+        contexte.genererHistorique(lignesSupplementaires / lignesParCommande, lignesParCommande);
+        contexte.bean(CompteursService.class).reconstruireUnitesVendues();
+        produitDao = contexte.bean(ProduitRepository.class);
+    }
+
+    @Benchmark
+    public List<UnitesParProduit> requeteGroupBy() {
+        return produitDao.produitsVendusPour(CATEGORIE);
+    }
+
+    @Benchmark
+    public List<UnitesParProduit> compteursPrecalcules() {
+        return produitDao.unitesVenduesPour(CATEGORIE);
+    }
+}
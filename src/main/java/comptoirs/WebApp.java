@@ -1,19 +1,16 @@
 package comptoirs;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableCaching // Active les annotations @Cacheable, @CacheEvict (cf. CategorieRepository)
+@EnableScheduling // Active l'annotation @Scheduled (cf. AnalyseVentesService)
 public class WebApp {
 
 	public static void main(String[] args) {
 		SpringApplication.run(WebApp.class, args);
 	}
-
-	@Bean
-	ModelMapper modelMapper() {
-		return new ModelMapper();
-	}
 }
@@ -0,0 +1,163 @@
+package comptoirs.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Une "cloison étanche" (bulkhead) : limite le nombre de requêtes HTTP d'un type (ex: saisie des commandes)
+ * traitées en même temps, pour qu'un afflux de ce type n'occupe pas tous les threads et toutes les connexions JDBC
+ * au détriment des autres (ex: lectures du catalogue). cf. CloisonsFilter
+ * <ul>
+ * <li>Au-delà de la limite, les requêtes attendent dans une file de taille bornée, pendant une durée bornée ;
+ *     file pleine ou attente trop longue : la requête est rejetée immédiatement (503).</li>
+ * <li>La limite s'adapte à la latence observée (AIMD), par fenêtres de "limite" requêtes terminées :
+ *     si leur durée moyenne de traitement dépasse latenceCible, la limite diminue de 10%, sinon elle augmente de 1.
+ *     La moyenne d'une fenêtre, plutôt que chaque requête, pour ne pas réagir à une requête lente isolée.
+ *     Elle reste entre limiteMin et limiteMax.</li>
+ * </ul>
+ */
+public class Cloison {
+    /**
+     * Paramètres d'une cloison (comptoirs.cloisons.[nom]...)
+     * @param chemins les débuts des chemins des requêtes concernées (ex: /services/commandes/ajouter)
+     * @param limiteMin la limite de requêtes simultanées ne descend pas en dessous
+     * @param limiteMax la limite de départ, qui n'est jamais dépassée
+     * @param file le nombre maximum de requêtes en attente
+     * @param attenteMax la durée maximum d'attente dans la file
+     * @param latenceCible la durée de traitement (hors attente) au-delà de laquelle la limite diminue
+     */
+    public record Parametres(List<String> chemins,
+                             @DefaultValue("1") int limiteMin,
+                             @DefaultValue("10") int limiteMax,
+                             @DefaultValue("0") int file,
+                             @DefaultValue("100ms") Duration attenteMax,
+                             @DefaultValue("500ms") Duration latenceCible) { }
+
+    private final String nom;
+    private final int limiteMin;
+    private final int limiteMax;
+    private final int fileMax;
+    private final long attenteMax;
+    private final long latenceCible;
+    private final Counter rejets;
+
+    private final ReentrantLock verrou = new ReentrantLock();
+    private final Condition placeLibre = verrou.newCondition();
+    // Les champs suivants sont protégés par "verrou"
+    private double limite;
+    private int enCours;
+    private int enAttente;
+    // La fenêtre en cours : nombre de requêtes terminées, durée totale de leur traitement
+    private int termineesFenetre;
+    private long dureeFenetre;
+
+    public Cloison(String nom, Parametres parametres, MeterRegistry meterRegistry) {
+        if (parametres.limiteMin() < 1 || parametres.limiteMax() < parametres.limiteMin()) {
+            throw new IllegalArgumentException("Cloison " + nom + " : il faut 1 <= limiteMin <= limiteMax");
+        }
+        this.nom = nom;
+        this.limiteMin = parametres.limiteMin();
+        this.limiteMax = parametres.limiteMax();
+        this.fileMax = parametres.file();
+        this.attenteMax = parametres.attenteMax().toNanos();
+        this.latenceCible = parametres.latenceCible().toNanos();
+        this.limite = limiteMax;
+        Gauge.builder("cloison.limite", this, Cloison::limite).tag("cloison", nom).register(meterRegistry);
+        Gauge.builder("cloison.en.cours", this, c -> c.enCours).tag("cloison", nom).register(meterRegistry);
+        Gauge.builder("cloison.en.attente", this, c -> c.enAttente).tag("cloison", nom).register(meterRegistry);
+        this.rejets = meterRegistry.counter("cloison.rejets", "cloison", nom);
+    }
+
+    public String getNom() {
+        return nom;
+    }
+
+    /**
+     * @return la limite actuelle de requêtes simultanées
+     */
+    public int limite() {
+        verrou.lock();
+        try {
+            return (int) limite;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Demande une place pour traiter une requête, en attendant au plus attenteMax.
+     * Si la place est obtenue, il faut appeler sortir() à la fin du traitement.
+     * @return true si la place est obtenue, false si la requête doit être rejetée
+     * @throws InterruptedException si le thread est interrompu pendant l'attente
+     */
+    public boolean entrer() throws InterruptedException {
+        verrou.lock();
+        try {
+            if (enCours < (int) limite) {
+                enCours++;
+                return true;
+            }
+            if (enAttente >= fileMax) {
+                rejets.increment();
+                return false;
+            }
+            enAttente++;
+            try {
+                long reste = attenteMax;
+                while (enCours >= (int) limite) {
+                    if (reste <= 0) {
+                        rejets.increment();
+                        return false;
+                    }
+                    reste = placeLibre.awaitNanos(reste);
+                }
+                enCours++;
+                return true;
+            } finally {
+                enAttente--;
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Libère la place obtenue par entrer(), et ajuste la limite
+     * @param duree la durée du traitement de la requête, en nanosecondes (hors attente dans la file)
+     */
+    public void sortir(long duree) {
+        verrou.lock();
+        try {
+            enCours--;
+            dureeFenetre += duree;
+            if (++termineesFenetre >= (int) limite) {
+                if (dureeFenetre / termineesFenetre > latenceCible) {
+                    limite = Math.max(limiteMin, limite * 0.9);
+                } else {
+                    limite = Math.min(limiteMax, limite + 1);
+                }
+                termineesFenetre = 0;
+                dureeFenetre = 0;
+            }
+            if (enCours < (int) limite) {
+                placeLibre.signal();
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return nom + " (limite " + limite() + ", attente max " + TimeUnit.NANOSECONDS.toMillis(attenteMax) + " ms)";
+    }
+}
@@ -0,0 +1,38 @@
+package comptoirs.config;
+
+import java.util.HashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contrôle d'admission des requêtes HTTP par des cloisons (cf. Cloison, CloisonsFilter),
+ * définies dans application.properties : comptoirs.cloisons.[nom].chemins, .limite-max...
+ * Désactivé par comptoirs.cloisons-actives=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "comptoirs.cloisons-actives", matchIfMissing = true)
+@Slf4j
+public class CloisonsConfig {
+
+    @Bean
+    public CloisonsFilter cloisonsFilter(Environment environment, MeterRegistry meterRegistry) {
+        var parametres = Binder.get(environment)
+            .bind("comptoirs.cloisons", Bindable.mapOf(String.class, Cloison.Parametres.class))
+            .orElseGet(HashMap::new);
+        var chemins = new HashMap<String, Cloison>();
+        parametres.forEach((nom, p) -> {
+            var cloison = new Cloison(nom, p, meterRegistry);
+            p.chemins().forEach(chemin -> chemins.put(chemin, cloison));
+            log.info("Cloison {} : {}", cloison, p.chemins());
+        });
+        return new CloisonsFilter(chemins);
+    }
+}
@@ -0,0 +1,74 @@
+package comptoirs.config;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Contrôle d'admission : chaque requête HTTP passe par la cloison (cf. Cloison) dont un chemin est le début
+ * du sien (le plus long, si plusieurs conviennent). Les requêtes des autres chemins ne sont pas limitées.
+ * Une requête rejetée reçoit immédiatement une réponse 503, avec "Retry-After".
+ * Le traitement asynchrone (ex: /services/commandes/export) n'est pas compté : la place est libérée
+ * dès que la requête passe en asynchrone.
+ */
+public class CloisonsFilter extends OncePerRequestFilter {
+    private final List<Map.Entry<String, Cloison>> chemins;
+
+    /**
+     * @param chemins pour chaque début de chemin, la cloison correspondante
+     */
+    public CloisonsFilter(Map<String, Cloison> chemins) {
+        this.chemins = chemins.entrySet().stream()
+            .sorted(Comparator.comparingInt((Map.Entry<String, Cloison> e) -> e.getKey().length()).reversed())
+            .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var cloison = cloisonPour(request.getRequestURI());
+        if (cloison == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean admise;
+        try {
+            admise = cloison.entrer();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admise = false;
+        }
+        if (!admise) {
+            // Réponse minimale, sans passer par la page d'erreur de Spring Boot : le rejet doit rester peu coûteux
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Trop de requêtes : " + cloison.getNom());
+            return;
+        }
+        long debut = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            cloison.sortir(System.nanoTime() - debut);
+        }
+    }
+
+    private Cloison cloisonPour(String chemin) {
+        for (var entree : chemins) {
+            if (chemin.startsWith(entree.getKey())) {
+                return entree.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package comptoirs.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Génération de l'instantané de la base H2 (cf. InstantaneConfig, pom.xml, profil Maven "instantane") :
+ * l'application est démarrée sur une base H2 "fichier", puis arrêtée dès la fin du démarrage
+ * (-Dspring.context.exit=onRefresh : Runtime.halt, sans fermer le contexte ni la base, ni même exécuter
+ * les "shutdown hooks" de la JVM). La base est donc fermée ici, explicitement, une fois tous les beans créés
+ * (le schéma et data.sql sont alors enregistrés), avant l'arrêt : tout est écrit dans le fichier, qui est compacté.
+ * Actif seulement avec comptoirs.instantane.generer=true.
+ */
+@Component
+@ConditionalOnProperty("comptoirs.instantane.generer")
+@Slf4j
+public class GenerationInstantane implements SmartInitializingSingleton {
+    private final DataSource dataSource;
+
+    // @Autowired
+    public GenerationInstantane(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Appelé après la création de tous les beans, avant la fin du démarrage (et donc avant l'arrêt)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        var jdbc = new JdbcTemplate(dataSource);
+        var produits = jdbc.queryForObject("SELECT COUNT(*) FROM Produit", Long.class);
+        var lignes = jdbc.queryForObject("SELECT COUNT(*) FROM Ligne", Long.class);
+        // Les connexions du pool sont inutilisables ensuite : l'application s'arrête juste après
+        jdbc.execute("SHUTDOWN COMPACT");
+        log.info("Instantané de la base fermé ({} produits, {} lignes de commande)", produits, lignes);
+    }
+}
@@ -0,0 +1,62 @@
+package comptoirs.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Profil "instantane" : démarrage à partir d'un instantané de la base, cf. application-instantane.properties
+ * (et les temps de démarrage mesurés).
+ * La base H2 n'est pas recréée (schéma par Hibernate, puis data.sql) : elle est copiée depuis un instantané,
+ * un fichier de base H2 généré à la compilation à partir de data.sql (mvn -Pinstantane verify).
+ * Chaque démarrage utilise sa propre copie, dans un répertoire temporaire supprimé à l'arrêt de la JVM :
+ * comme avec la base en mémoire vive, les modifications sont perdues à l'arrêt.
+ * Ne peut pas être combiné avec le profil "replica" (qui définit aussi la DataSource).
+ */
+@Configuration
+@Profile("instantane")
+@Slf4j
+public class InstantaneConfig {
+
+    /**
+     * Le pool de connexions, configuré comme le pool par défaut de Spring Boot,
+     * vers une copie de l'instantané
+     * @param instantane le fichier de base H2 (.mv.db) généré à la compilation
+     * @param options les options de l'URL JDBC (ex: ;LAZY_QUERY_EXECUTION=1)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties proprietes,
+                                       @Value("${comptoirs.instantane.fichier}") Resource instantane,
+                                       @Value("${comptoirs.instantane.options:}") String options) throws IOException {
+        if (!instantane.exists()) {
+            throw new IllegalStateException("Instantané de la base absent : " + instantane
+                + " (à générer par mvn -Pinstantane verify)");
+        }
+        var repertoire = Files.createTempDirectory("comptoirs-");
+        var copie = repertoire.resolve("comptoirs.mv.db");
+        try (var contenu = instantane.getInputStream()) {
+            Files.copy(contenu, copie, StandardCopyOption.REPLACE_EXISTING);
+        }
+        // Supprimés dans l'ordre inverse : le fichier, puis le répertoire
+        repertoire.toFile().deleteOnExit();
+        copie.toFile().deleteOnExit();
+        log.info("Base H2 copiée depuis l'instantané {} ({} octets)", instantane, Files.size(copie));
+        return proprietes.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url("jdbc:h2:file:" + repertoire.resolve("comptoirs") + options)
+            .build();
+    }
+}
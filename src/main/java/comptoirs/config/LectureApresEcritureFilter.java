@@ -0,0 +1,49 @@
+package comptoirs.config;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * "Lire ses propres écritures" avec une réplique en retard sur le primaire (cf. RoutageDataSource) :
+ * quand une requête HTTP écrit dans la base, la réponse dépose un cookie de courte durée.
+ * Tant que le client le renvoie, toutes ses requêtes utilisent le primaire : il voit ses écritures,
+ * même si la réplique ne les a pas encore reçues. Les autres clients continuent à lire la réplique.
+ */
+public class LectureApresEcritureFilter extends OncePerRequestFilter {
+    static final String COOKIE = "comptoirs-primaire";
+
+    // Durée de validité du cookie : doit dépasser le retard maximum de la réplique
+    private final Duration duree;
+
+    public LectureApresEcritureFilter(Duration duree) {
+        this.duree = duree;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean ecritureRecente = WebUtils.getCookie(request, COOKIE) != null;
+        // Le cookie est ajouté pendant le traitement, avant que la réponse ne soit envoyée
+        RoutageDataSource.commencer(ecritureRecente, () -> {
+            var cookie = new Cookie(COOKIE, "1");
+            cookie.setMaxAge((int) duree.toSeconds());
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        });
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RoutageDataSource.terminer();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package comptoirs.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Profil "replica" : deux pools de connexions, vers le SGBD primaire (spring.datasource...)
+ * et vers une réplique en lecture seule (comptoirs.replica...), cf. application-replica.properties.
+ * Les transactions en lecture seule utilisent la réplique (cf. RoutageDataSource).
+ */
+@Configuration
+@Profile("replica")
+@Slf4j
+public class RepliqueConfig {
+
+    /**
+     * Le pool de connexions vers le primaire, configuré comme le pool par défaut de Spring Boot
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaire(DataSourceProperties proprietes) {
+        return proprietes.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Le pool de connexions vers la réplique (propriétés de Hikari : jdbc-url, maximum-pool-size...)
+     */
+    @Bean
+    @ConfigurationProperties("comptoirs.replica.hikari")
+    public HikariDataSource replique() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * La DataSource utilisée par l'application (JPA, initialisation par data.sql...)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaire") DataSource primaire, @Qualifier("replique") DataSource replique) {
+        var routage = new RoutageDataSource();
+        routage.setTargetDataSources(Map.of(
+            RoutageDataSource.Cible.PRIMAIRE, primaire,
+            RoutageDataSource.Cible.REPLIQUE, replique));
+        routage.setDefaultTargetDataSource(primaire);
+        routage.afterPropertiesSet();
+        // La connexion n'est demandée qu'à la première requête SQL, une fois la transaction démarrée
+        return new LazyConnectionDataSourceProxy(routage);
+    }
+
+    @Bean
+    public LectureApresEcritureFilter lectureApresEcritureFilter(
+            @Value("${comptoirs.replica.lecture-primaire-apres-ecriture:5s}") Duration duree) {
+        return new LectureApresEcritureFilter(duree);
+    }
+
+    /**
+     * Pour tester en local, avec deux bases H2 en mémoire vive (profil "replica-h2") : au démarrage, une fois
+     * le primaire initialisé (data.sql), on copie son contenu dans la réplique. La réplique n'est ensuite plus
+     * mise à jour : elle ne voit aucune écriture faite après le démarrage (retard "infini").
+     * La copie est faite après la création de tous les beans, avant la fin du démarrage : avant les tâches
+     * planifiées (ex: AnalyseVentesService.rafraichir, qui lit la réplique), démarrées à la fin du démarrage.
+     */
+    @Bean
+    @ConditionalOnProperty("comptoirs.replica.copier-primaire-h2")
+    public SmartInitializingSingleton copierPrimaire(@Qualifier("primaire") DataSource primaire,
+                                                     @Qualifier("replique") DataSource replique) {
+        return () -> {
+            var instructions = new JdbcTemplate(primaire).queryForList("SCRIPT", String.class);
+            var jdbc = new JdbcTemplate(replique);
+            instructions.forEach(jdbc::execute);
+            log.info("Réplique H2 initialisée : {} instructions copiées du primaire", instructions.size());
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package comptoirs.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Envoie les transactions en lecture seule (@Transactional(readOnly = true), méthodes de lecture des repositories)
+ * vers la réplique du SGBD, et tout le reste (transactions en écriture, requêtes hors transaction) vers le primaire.
+ * La cible est choisie quand la connexion est demandée : il faut envelopper cette DataSource dans une
+ * LazyConnectionDataSourceProxy, pour que la connexion ne soit demandée qu'à la première requête SQL,
+ * une fois la transaction (et son attribut "readOnly") démarrée. cf. RepliqueConfig
+ *
+ * "Lire ses propres écritures" : la réplique peut être en retard sur le primaire.
+ * Pendant une requête HTTP (entre commencer() et terminer(), cf. LectureApresEcritureFilter), après une
+ * transaction en écriture, toutes les transactions utilisent le primaire.
+ * Elles ne doivent pas non plus lire les caches de l'application, qui peuvent avoir été remplis depuis
+ * la réplique, par les requêtes d'autres clients (cf. CACHE_AUTORISE).
+ */
+public class RoutageDataSource extends AbstractRoutingDataSource {
+    public enum Cible { PRIMAIRE, REPLIQUE }
+
+    /**
+     * Condition des méthodes en cache (@Cacheable(condition = ...)) : le cache n'est ni lu ni rempli
+     * quand la requête HTTP en cours doit lire le primaire (cf. primaireImpose)
+     */
+    public static final String CACHE_AUTORISE = "!T(comptoirs.config.RoutageDataSource).primaireImpose()";
+
+    /**
+     * L'état du routage pour la requête HTTP en cours
+     */
+    private static class Etat {
+        // Les lectures doivent voir les écritures récentes
+        boolean primaireImpose;
+        // Appelé à la première écriture
+        Runnable surEcriture;
+    }
+
+    // Pas d'état en dehors d'une requête HTTP (ex: tâches en arrière-plan) : les lectures vont à la réplique
+    private static final ThreadLocal<Etat> ETAT = new ThreadLocal<>();
+
+    /**
+     * Début d'une requête HTTP
+     * @param primaireImpose true si toutes les transactions doivent utiliser le primaire
+     *        (ex: le même client vient d'écrire dans une requête précédente)
+     * @param surEcriture appelée à la première transaction en écriture de cette requête
+     *        (ex: mémoriser l'écriture pour les requêtes suivantes du même client)
+     */
+    public static void commencer(boolean primaireImpose, Runnable surEcriture) {
+        var etat = new Etat();
+        etat.primaireImpose = primaireImpose;
+        etat.surEcriture = surEcriture;
+        ETAT.set(etat);
+    }
+
+    /**
+     * Fin d'une requête HTTP : les threads sont réutilisés, il faut oublier son état
+     */
+    public static void terminer() {
+        ETAT.remove();
+    }
+
+    /**
+     * @return true si les lectures de la requête HTTP en cours doivent voir les écritures récentes
+     *         (le même client vient d'écrire), false sinon (et en dehors d'une requête HTTP)
+     */
+    public static boolean primaireImpose() {
+        var etat = ETAT.get();
+        return etat != null && etat.primaireImpose;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Cible.PRIMAIRE;
+        }
+        var etat = ETAT.get();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primaireImpose() ? Cible.PRIMAIRE : Cible.REPLIQUE;
+        }
+        // Une transaction en écriture : les lectures suivantes doivent en voir le résultat
+        if (etat != null && !etat.primaireImpose) {
+            etat.primaireImpose = true;
+            if (etat.surEcriture != null) {
+                etat.surEcriture.run();
+            }
+        }
+        return Cible.PRIMAIRE;
+    }
+}
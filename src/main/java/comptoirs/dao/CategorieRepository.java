@@ -1,8 +1,16 @@
 package comptoirs.dao;
 
+import comptoirs.config.RoutageDataSource;
 import comptoirs.entity.Categorie;
 import java.util.List;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
 
 
 // This will be AUTO IMPLEMENTED by Spring into a Bean called ProductCodeRepository
@@ -10,14 +18,21 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * Un repository avec des méthodes de recherche spécifiques, auto-implémentées par Spring
+ * Le catalogue change rarement : la liste et le nombre des catégories sont mis en cache,
+ * et évincés par toute modification d'une catégorie (save*, delete*, y compris par l'API REST /api).
+ * Les entités renvoyées par le cache sont détachées et partagées : il ne faut pas les modifier.
+ * Avec une réplique (profil "replica"), le cache est ignoré par un client qui vient d'écrire
+ * (cf. RoutageDataSource.CACHE_AUTORISE) : il a pu être rempli depuis la réplique, en retard.
  */
 
 public interface CategorieRepository extends JpaRepository<Categorie, Integer> {	
 	/**
 	 * Recherche une catégorie par son libellé (unique)
+	 * Le résultat est dans le cache de requêtes de Hibernate, invalidé par toute modification de la table
 	 * @param libelle le libellé recherché
 	 * @return Une catégorie avec ce libellé
 	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	Categorie findByLibelle(String libelle);	
 	/**
 	 * Recherche les catégories dont le libellé contient une sous-chaine
@@ -25,4 +40,79 @@ public interface CategorieRepository extends JpaRepository<Categorie, Integer> {
 	 * @return la liste des catégories dont le libellé contient substring
 	 */
 	List<Categorie> findByLibelleContaining(String substring);
+
+	/**
+	 * Toutes les catégories avec leurs produits (chargés par la même requête : ils sont
+	 * encore accessibles quand la liste est relue dans le cache, hors de toute transaction)
+	 * @return la liste des catégories
+	 */
+	@Override
+	@Cacheable(cacheNames = "categories", condition = RoutageDataSource.CACHE_AUTORISE)
+	@EntityGraph(attributePaths = {"produits"})
+	List<Categorie> findAll();
+
+	/**
+	 * Une page de catégories (utilisée par l'API REST /api/categories)
+	 * @param pageable la page demandée
+	 * @return la page de catégories
+	 */
+	@Override
+	@Cacheable(cacheNames = "categories", condition = RoutageDataSource.CACHE_AUTORISE)
+	Page<Categorie> findAll(Pageable pageable);
+
+	/**
+	 * @return le nombre de catégories
+	 */
+	@Override
+	@Cacheable(cacheNames = "nombreCategories", condition = RoutageDataSource.CACHE_AUTORISE)
+	long count();
+
+	// Toutes les méthodes qui modifient des entités Categorie évincent le catalogue en cache (cf. EvictionCategories)
+	@Override
+	@EvictionCategories
+	<S extends Categorie> S save(S categorie);
+
+	@Override
+	@EvictionCategories
+	<S extends Categorie> S saveAndFlush(S categorie);
+
+	@Override
+	@EvictionCategories
+	<S extends Categorie> List<S> saveAll(Iterable<S> categories);
+
+	@Override
+	@EvictionCategories
+	<S extends Categorie> List<S> saveAllAndFlush(Iterable<S> categories);
+
+	@Override
+	@EvictionCategories
+	void delete(Categorie categorie);
+
+	@Override
+	@EvictionCategories
+	void deleteById(Integer code);
+
+	@Override
+	@EvictionCategories
+	void deleteAll();
+
+	@Override
+	@EvictionCategories
+	void deleteAll(Iterable<? extends Categorie> categories);
+
+	@Override
+	@EvictionCategories
+	void deleteAllById(Iterable<? extends Integer> codes);
+
+	@Override
+	@EvictionCategories
+	void deleteAllInBatch();
+
+	@Override
+	@EvictionCategories
+	void deleteAllInBatch(Iterable<Categorie> categories);
+
+	@Override
+	@EvictionCategories
+	void deleteAllByIdInBatch(Iterable<Integer> codes);
 }
@@ -1,5 +1,8 @@
 package comptoirs.dao;
 
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import comptoirs.entity.Client;
@@ -19,4 +22,33 @@ public interface ClientRepository extends JpaRepository<Client, String> {
     @Query("SELECT COALESCE(SUM(l.quantite), 0) FROM Ligne l WHERE l.commande.client.code = :clientCode")
     int nombreArticlesCommandesPar(String clientCode);
 
+    /**
+     * Incrémente le nombre d'articles commandés par un client (Client.nombreArticlesCommandes),
+     * de manière atomique
+     * @param clientCode la clé du client
+     * @param quantite le nombre d'articles ajoutés
+     * @return le nombre de clients modifiés
+     */
+    @Modifying
+    @Query("UPDATE Client c SET c.nombreArticlesCommandes = c.nombreArticlesCommandes + :quantite "
+        + "WHERE c.code = :clientCode")
+    int ajouterArticlesCommandes(String clientCode, int quantite);
+
+    /**
+     * Recalcule le nombre d'articles commandés de tous les clients à partir des lignes de commande
+     * @return le nombre de clients modifiés
+     */
+    @Modifying
+    @Query("UPDATE Client c SET c.nombreArticlesCommandes = "
+        + "(SELECT COALESCE(SUM(l.quantite), 0) FROM Ligne l WHERE l.commande.client = c)")
+    int recalculerArticlesCommandes();
+
+    /**
+     * Trouve les clients dont le nombre d'articles commandés ne correspond pas à leurs lignes de commande
+     * @return la liste des clés de ces clients
+     */
+    @Query("SELECT c.code FROM Client c WHERE c.nombreArticlesCommandes <> "
+        + "(SELECT COALESCE(SUM(l.quantite), 0) FROM Ligne l WHERE l.commande.client = c)")
+    List<String> clientsAvecArticlesCommandesIncoherents();
+
 }
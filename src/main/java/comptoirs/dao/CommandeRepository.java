@@ -1,11 +1,23 @@
 package comptoirs.dao;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-import comptoirs.dto.CommandeProjection;
+import comptoirs.dto.CommandeDetails;
+import comptoirs.dto.CommandeExport;
+import comptoirs.dto.VersionCommande;
+import jakarta.persistence.QueryHint;
 import comptoirs.entity.Commande;
 
 // This will be AUTO IMPLEMENTED by Spring into a Bean called CommandeRepository
@@ -23,8 +35,64 @@ public interface CommandeRepository extends JpaRepository<Commande, Integer> {
      */
     List<Commande> findByClientSociete(String societe);
 
+    /**
+     * Trouve une page des commandes d'un client, par numéro croissant.
+     * Pagination "keyset" : on reprend après le dernier numéro de la page précédente,
+     * au lieu de sauter les N premières commandes (OFFSET). Grâce à l'index (client_code, numero)
+     * de la table Commande, le coût d'une page ne dépend pas de sa position.
+     * Le tri reprend toutes les colonnes de l'index (le code client est constant) :
+     * sinon H2 ne voit pas que l'index fournit déjà l'ordre, et trie toutes les commandes du client.
+     *
+     * @param codeClient la clé du client
+     * @param apres le numéro de la dernière commande de la page précédente (0 pour la première page)
+     * @param limit le nombre maximum de commandes dans la page
+     * @return la page de commandes
+     */
+    @Query("""
+        select c from Commande c where
+            c.client.code = :codeClient and
+            c.numero > :apres
+            order by c.client.code, c.numero
+        """)
+    List<Commande> findByClientCodeApres(String codeClient, int apres, Limit limit);
+
+    /**
+     * Trouve une commande avec son client, ses lignes et leurs produits, en une seule requête SQL
+     * (sans le graphe d'entités, chaque association serait chargée par une requête séparée)
+     * @param numero la clé de la commande
+     * @return la commande, si elle existe
+     */
+    @EntityGraph(attributePaths = {"client", "lignes", "lignes.produit", "lignes.produit.categorie"})
     @Query("select c from Commande c where c.numero = :numero")
-    CommandeProjection findProjectionByNumero(Integer numero);
+    Optional<Commande> findAvecLignesByNumero(Integer numero);
+
+    /**
+     * Trouve les informations d'une commande et de ses lignes, sous forme de rangées "à plat"
+     * @param numero la clé de la commande
+     * @return une rangée par ligne de commande (une seule si la commande n'a pas de ligne),
+     *         vide si la commande n'existe pas
+     * @see #findDetailsByNumero(Integer)
+     */
+    @Query("""
+        select new comptoirs.dto.CommandeDetails$Rangee(
+            c.numero, c.saisiele, cl.societe, cl.contact, l.quantite, p.nom, p.prixUnitaire)
+        from Commande c
+            join c.client cl
+            left join c.lignes l
+            left join l.produit p
+        where c.numero = :numero
+        order by l.id
+        """)
+    List<CommandeDetails.Rangee> findRangeesDetailsByNumero(Integer numero);
+
+    /**
+     * Trouve les informations d'une commande et de ses lignes, en une seule requête SQL
+     * @param numero la clé de la commande
+     * @return la commande, si elle existe
+     */
+    default Optional<CommandeDetails> findDetailsByNumero(Integer numero) {
+        return CommandeDetails.regrouper(findRangeesDetailsByNumero(numero));
+    }
 
     /**
      * Trouve la liste des commandes en cours pour un client donné
@@ -40,4 +108,72 @@ public interface CommandeRepository extends JpaRepository<Commande, Integer> {
         """)
     List<Commande> commandesEnCoursPour(String codeClient);
 
+    /**
+     * Trouve une page des commandes en cours pour un client donné, des plus anciennes (les premières à expédier)
+     * aux plus récentes (pagination "keyset", cf. findByClientCodeApres).
+     * L'ordre est croissant car H2 ne sait pas parcourir l'index (client_code, numero) à l'envers.
+     * @param codeClient la clé du client
+     * @param apres le numéro de la dernière commande de la page précédente (0 pour la première page)
+     * @param limit le nombre maximum de commandes dans la page
+     * @return la page de commandes en cours pour ce client
+     */
+    @Query("""
+        select c from Commande c where
+            c.envoyeele is null and
+            c.client.code = :codeClient and
+            c.numero > :apres
+            order by c.client.code, c.numero
+        """)
+    List<Commande> commandesEnCoursPourApres(String codeClient, int apres, Limit limit);
+
+    /**
+     * Parmi des commandes, trouve celles qui existent et ne sont pas encore envoyées
+     * @param numeros les clés des commandes
+     * @return les clés des commandes qui peuvent être expédiées, et leurs versions
+     */
+    @Query("select new comptoirs.dto.VersionCommande(c.numero, c.version) from Commande c "
+        + "where c.numero in :numeros and c.envoyeele is null")
+    List<VersionCommande> expediablesParmi(Collection<Integer> numeros);
+
+    /**
+     * @param numeros les clés des commandes
+     * @return la somme des versions de ces commandes : elle augmente à chaque modification de l'une d'elles
+     */
+    @Query("select coalesce(sum(c.version), 0) from Commande c where c.numero in :numeros")
+    long sommeDesVersions(Collection<Integer> numeros);
+
+    /**
+     * Enregistre la date d'expédition de plusieurs commandes, par une seule requête UPDATE.
+     * Les commandes déjà envoyées ne sont pas modifiées.
+     * Attention : les entités Commande déjà chargées ne sont pas mises à jour.
+     * Leur version est incrémentée : une entité lue avant la requête ne peut plus être enregistrée.
+     * @param numeros les clés des commandes
+     * @param date la date d'expédition
+     * @return le nombre de commandes modifiées
+     */
+    @Modifying
+    @Query("update Commande c set c.envoyeele = :date, c.version = c.version + 1 where c.numero in :numeros and c.envoyeele is null")
+    int enregistrerExpeditions(Collection<Integer> numeros, LocalDate date);
+
+    /**
+     * Toutes les commandes et leurs lignes, sous forme de rangées "à plat", par numéro de commande croissant :
+     * les rangées d'une même commande se suivent.
+     * Le résultat est lu au fur et à mesure (curseur JDBC, par blocs de 1000 rangées) : le flux doit être parcouru
+     * dans une transaction, puis fermé. Ce ne sont pas des entités : rien n'est conservé par Hibernate
+     * (contexte de persistance, cache de second niveau) pendant le parcours.
+     * @return une rangée par ligne de commande (une seule pour une commande sans ligne)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select new comptoirs.dto.CommandeExport$Rangee(
+            c.numero, c.client.code, c.saisiele, c.envoyeele, c.remise, l.produit.reference, l.quantite)
+        from Commande c
+            left join c.lignes l
+        order by c.numero
+        """)
+    Stream<CommandeExport.Rangee> exporterRangees();
+
 }
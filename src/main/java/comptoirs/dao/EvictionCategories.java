@@ -0,0 +1,27 @@
+package comptoirs.dao;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+
+/**
+ * Évince les caches du catalogue qui contiennent des catégories : "categories" et "nombreCategories"
+ * (cf. CategorieRepository), et "produits" (les produits en cache contiennent leur catégorie,
+ * cf. ProduitRepository.findCatalogueByReference).
+ * A mettre sur toutes les méthodes qui modifient des entités Categorie (save*, delete*).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Caching(evict = {
+	@CacheEvict(cacheNames = "categories", allEntries = true),
+	@CacheEvict(cacheNames = "nombreCategories", allEntries = true),
+	@CacheEvict(cacheNames = "produits", allEntries = true)
+})
+public @interface EvictionCategories {
+}
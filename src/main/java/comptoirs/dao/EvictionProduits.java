@@ -0,0 +1,25 @@
+package comptoirs.dao;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+
+/**
+ * Évince les caches du catalogue qui contiennent des produits : "produits" (cf. ProduitRepository.findCatalogueByReference)
+ * et "categories" (les catégories en cache contiennent leurs produits, cf. CategorieRepository).
+ * A mettre sur toutes les méthodes qui modifient des entités Produit (save*, delete*).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Caching(evict = {
+	@CacheEvict(cacheNames = "produits", allEntries = true),
+	@CacheEvict(cacheNames = "categories", allEntries = true)
+})
+public @interface EvictionProduits {
+}
@@ -1,10 +1,40 @@
 package comptoirs.dao;
 
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import comptoirs.dto.LigneVendue;
 import comptoirs.entity.Ligne;
+import jakarta.persistence.QueryHint;
 
 // This will be AUTO IMPLEMENTED by Spring into a Bean called LigneRepository
 
 public interface LigneRepository extends JpaRepository<Ligne, Integer> {
 
+    /**
+     * Les lignes de commande ajoutées depuis une ligne donnée, avec le produit, la commande et le pays du client,
+     * par clé croissante. Le résultat est lu au fur et à mesure (cf. CommandeRepository.exporterRangees) :
+     * le flux doit être parcouru dans une transaction, puis fermé.
+     * @param apres la clé de la dernière ligne déjà lue (0 pour toutes les lignes)
+     * @return les lignes de clé supérieure
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select new comptoirs.dto.LigneVendue(
+            l.id, p.reference, p.categorie.code, c.client.adresse.pays, c.saisiele, l.quantite, p.prixUnitaire, c.remise)
+        from Ligne l
+            join l.commande c
+            join l.produit p
+        where l.id > :apres
+        order by l.id
+        """)
+    Stream<LigneVendue> lignesVenduesApres(int apres);
+
 }
@@ -1,10 +1,18 @@
 package comptoirs.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import comptoirs.config.RoutageDataSource;
 import comptoirs.entity.Produit;
+import comptoirs.dto.EtatStock;
+import comptoirs.dto.QuantiteParProduit;
 import comptoirs.dto.UnitesParProduit;
 
 // Cette interface sera auto-implémentée par Spring
@@ -39,6 +47,194 @@ public interface ProduitRepository extends JpaRepository<Produit, Integer> {
 		+ "GROUP BY p.nom ")
 	public List<Object> produitsVendusPourV2(Integer codeCategorie);
 
+	/**
+	 * Unités vendues pour chaque produit d'une catégorie donnée, d'après le compteur Produit.unitesVendues.
+	 * Même résultat que produitsVendusPour, sans parcourir les lignes de commande.
+	 * @param codeCategorie la catégorie à traiter
+	 * @return le nombre d'unités vendus pour chaque produit vendu au moins une fois,
+	 *		sous la forme d'une liste de DTO UnitesParProduit
+	 */
+	@Query("SELECT p.nom as nom, CAST(p.unitesVendues AS Long) AS unites "
+		+ "FROM Produit p "
+		+ "WHERE p.categorie.code = :codeCategorie "
+		+ "AND p.unitesVendues > 0 ")
+	public List<UnitesParProduit> unitesVenduesPour(Integer codeCategorie);
+
+	/**
+	 * Unités vendues pour chaque produit d'une catégorie donnée, d'après le compteur Produit.unitesVendues.
+	 * Même résultat que produitsVendusPourV2, sans parcourir les lignes de commande.
+	 * @param codeCategorie la catégorie à traiter
+	 * @return le nombre d'unités vendus pour chaque produit vendu au moins une fois,
+	 *	   sous la forme d'une liste de tableaux de valeurs non typées
+	 */
+	@Query("SELECT p.nom, CAST(p.unitesVendues AS Long) "
+		+ "FROM Produit p "
+		+ "WHERE p.categorie.code = :codeCategorie "
+		+ "AND p.unitesVendues > 0 ")
+	public List<Object> unitesVenduesPourV2(Integer codeCategorie);
+
+	/**
+	 * Recalcule le nombre d'unités vendues de tous les produits à partir des lignes de commande
+	 * @return le nombre de produits modifiés
+	 */
+	@Modifying
+	@Query("UPDATE Produit p SET p.version = p.version + 1, p.unitesVendues = "
+		+ "(SELECT COALESCE(SUM(li.quantite), 0) FROM Ligne li WHERE li.produit = p)")
+	int recalculerUnitesVendues();
+
+	/**
+	 * Trouve les produits dont le nombre d'unités vendues ne correspond pas à leurs lignes de commande
+	 * @return la liste des clés de ces produits
+	 */
+	@Query("SELECT p.reference FROM Produit p WHERE p.unitesVendues <> "
+		+ "(SELECT COALESCE(SUM(li.quantite), 0) FROM Ligne li WHERE li.produit = p)")
+	List<Integer> produitsAvecUnitesVenduesIncoherentes();
+
     List<Produit> findByIndisponibleFalseAndUnitesEnStockGreaterThan(int stock);
 
+	/**
+	 * Réserve une quantité d'un produit : incrémente unitesCommandees, seulement s'il y a assez de stock.
+	 * Incrémente aussi le nombre d'unités vendues (unitesVendues).
+	 * La vérification et la mise à jour sont faites par une seule requête UPDATE, atomique :
+	 * deux réservations concurrentes ne peuvent pas "perdre" une mise à jour ou dépasser le stock,
+	 * sans verrouiller la ligne du produit pendant toute la transaction.
+	 * Attention : les entités Produit déjà chargées ne sont pas mises à jour.
+	 * Leur version est incrémentée : une entité lue avant la requête ne peut plus être enregistrée.
+	 * @param reference la clé du produit
+	 * @param quantite la quantité à réserver
+	 * @return le nombre de produits modifiés : 1 si la réservation a réussi, 0 s'il n'y a pas assez de stock
+	 */
+	@Modifying
+	@Query("UPDATE Produit p SET p.version = p.version + 1, "
+		+ "p.unitesCommandees = p.unitesCommandees + :quantite, "
+		+ "p.unitesVendues = p.unitesVendues + :quantite "
+		+ "WHERE p.reference = :reference "
+		+ "AND p.unitesEnStock >= p.unitesCommandees + :quantite")
+	int reserverStock(Integer reference, int quantite);
+
+	/**
+	 * Enregistre la sortie du stock des produits de commandes expédiées :
+	 * pour chaque produit de ces commandes, décrémente unitesEnStock et unitesCommandees
+	 * de la quantité totale commandée. Une seule requête UPDATE, quel que soit le nombre de produits.
+	 * Attention : les entités Produit déjà chargées ne sont pas mises à jour.
+	 * Leur version est incrémentée : une entité lue avant la requête ne peut plus être enregistrée.
+	 * @param commandes les clés des commandes expédiées
+	 * @return le nombre de produits modifiés
+	 */
+	@Modifying
+	@Query("UPDATE Produit p SET p.version = p.version + 1, "
+		+ "p.unitesEnStock = p.unitesEnStock - (SELECT SUM(li.quantite) FROM Ligne li "
+		+ "  WHERE li.produit = p AND li.commande.numero IN :commandes), "
+		+ "p.unitesCommandees = p.unitesCommandees - (SELECT SUM(li.quantite) FROM Ligne li "
+		+ "  WHERE li.produit = p AND li.commande.numero IN :commandes) "
+		+ "WHERE p.reference IN (SELECT li.produit.reference FROM Ligne li WHERE li.commande.numero IN :commandes)")
+	int sortirDuStock(Collection<Integer> commandes);
+
+	/**
+	 * Calcule la quantité totale de chaque produit dans les lignes de plusieurs commandes
+	 * @param commandes les clés des commandes
+	 * @return une quantité par produit présent dans ces commandes
+	 */
+	@Query("SELECT new comptoirs.dto.QuantiteParProduit(li.produit.reference, SUM(li.quantite)) "
+		+ "FROM Ligne li "
+		+ "WHERE li.commande.numero IN :commandes "
+		+ "GROUP BY li.produit.reference ORDER BY li.produit.reference")
+	List<QuantiteParProduit> quantitesParProduit(Collection<Integer> commandes);
+
+	/**
+	 * Enregistre la sortie du stock d'une quantité d'un produit expédiée :
+	 * décrémente unitesEnStock et unitesCommandees, relativement aux valeurs en base (cf. sortirDuStock).
+	 * Attention : les entités Produit déjà chargées ne sont pas mises à jour.
+	 * Leur version est incrémentée : une entité lue avant la requête ne peut plus être enregistrée.
+	 * @param reference la clé du produit
+	 * @param quantite la quantité expédiée
+	 * @return le nombre de produits modifiés
+	 */
+	@Modifying
+	@Query("UPDATE Produit p SET p.version = p.version + 1, "
+		+ "p.unitesEnStock = p.unitesEnStock - :quantite, "
+		+ "p.unitesCommandees = p.unitesCommandees - :quantite "
+		+ "WHERE p.reference = :reference")
+	int sortirQuantiteDuStock(Integer reference, long quantite);
+
+	/**
+	 * @return les quantités et la disponibilité de tous les produits, sans charger les entités
+	 */
+	@Query("SELECT new comptoirs.dto.EtatStock(p.reference, p.unitesEnStock, p.unitesCommandees, p.indisponible) "
+		+ "FROM Produit p ORDER BY p.reference")
+	List<EtatStock> etatsStock();
+
+	/**
+	 * @param references les clés des produits
+	 * @return les quantités et la disponibilité de ces produits, sans charger les entités
+	 */
+	@Query("SELECT new comptoirs.dto.EtatStock(p.reference, p.unitesEnStock, p.unitesCommandees, p.indisponible) "
+		+ "FROM Produit p WHERE p.reference IN :references")
+	List<EtatStock> etatsStockDe(Collection<Integer> references);
+
+	/**
+	 * Les données de référence d'un produit (nom, prix, catégorie, indisponibilité), mises en cache.
+	 * L'entité renvoyée est détachée et partagée : il ne faut pas la modifier.
+	 * Seules ces données de référence peuvent être lues dans cette entité : elles ne sont modifiées qu'en enregistrant
+	 * l'entité (save, saveAll..., y compris par l'API REST /api), ce qui évince le cache (cf. EvictionProduits).
+	 * Il ne faut JAMAIS y lire le stock (unitesEnStock, unitesCommandees, unitesVendues) ni la version :
+	 * ils sont modifiés par des requêtes (ex: reserverStock) qui n'évincent pas le cache, et peuvent avoir
+	 * jusqu'à la durée du cache de retard (cf. spring.cache.caffeine.spec). Pour le stock, cf. etatsStockDe.
+	 * Le cache est ignoré par un client qui vient d'écrire, avec une réplique (cf. RoutageDataSource.CACHE_AUTORISE)
+	 * @param reference la clé du produit
+	 * @return le produit, s'il existe
+	 */
+	@Cacheable(cacheNames = "produits", condition = RoutageDataSource.CACHE_AUTORISE)
+	@Query("SELECT p FROM Produit p JOIN FETCH p.categorie WHERE p.reference = :reference")
+	Optional<Produit> findCatalogueByReference(Integer reference);
+
+	// Toutes les méthodes qui modifient des entités Produit évincent le catalogue en cache (cf. EvictionProduits)
+	// Les requêtes UPDATE (reserverStock, sortirDuStock...) ne l'évincent pas : elles ne modifient que les quantités
+	@Override
+	@EvictionProduits
+	<S extends Produit> S save(S produit);
+
+	@Override
+	@EvictionProduits
+	<S extends Produit> S saveAndFlush(S produit);
+
+	@Override
+	@EvictionProduits
+	<S extends Produit> List<S> saveAll(Iterable<S> produits);
+
+	@Override
+	@EvictionProduits
+	<S extends Produit> List<S> saveAllAndFlush(Iterable<S> produits);
+
+	@Override
+	@EvictionProduits
+	void delete(Produit produit);
+
+	@Override
+	@EvictionProduits
+	void deleteById(Integer reference);
+
+	@Override
+	@EvictionProduits
+	void deleteAll();
+
+	@Override
+	@EvictionProduits
+	void deleteAll(Iterable<? extends Produit> produits);
+
+	@Override
+	@EvictionProduits
+	void deleteAllById(Iterable<? extends Integer> references);
+
+	@Override
+	@EvictionProduits
+	void deleteAllInBatch();
+
+	@Override
+	@EvictionProduits
+	void deleteAllInBatch(Iterable<Produit> produits);
+
+	@Override
+	@EvictionProduits
+	void deleteAllByIdInBatch(Iterable<Integer> references);
 }
@@ -0,0 +1,57 @@
+package comptoirs.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Informations sur une commande et ses lignes de commande, en lecture seule.
+ * Construit à partir d'une seule requête, qui ne sélectionne que les colonnes utiles
+ * (cf. CommandeRepository.findDetailsByNumero) : pas d'entités, pas de proxies.
+ */
+public record CommandeDetails(
+    // Pour les commandes on ne garde que le numéro et la date de saisie
+    Integer numero,
+    LocalDate saisiele,
+    ClientDetails client,
+    List<LigneDetails> lignes) {
+
+    // Pour le client on ne garde que la société et le nom du contact
+    public record ClientDetails(String societe, String contact) { }
+
+    // Pour les lignes on ne garde que la quantité et le produit
+    public record LigneDetails(Integer quantite, ProduitDetails produit) { }
+
+    // Pour les produits on ne garde que le nom et le prix unitaire
+    public record ProduitDetails(String nom, BigDecimal prixUnitaire) { }
+
+    /**
+     * Une ligne du résultat de la requête : la commande et son client sont répétés pour chaque ligne de commande.
+     * Si la commande n'a pas de ligne, on obtient une seule rangée, avec une quantité et un produit null.
+     */
+    public record Rangee(Integer numero, LocalDate saisiele, String societe, String contact,
+                         Integer quantite, String produitNom, BigDecimal prixUnitaire) { }
+
+    /**
+     * Regroupe les rangées du résultat de la requête en une commande avec ses lignes
+     * @param rangees les rangées d'une même commande
+     * @return la commande, vide s'il n'y a pas de rangée
+     */
+    public static Optional<CommandeDetails> regrouper(List<Rangee> rangees) {
+        if (rangees.isEmpty()) {
+            return Optional.empty();
+        }
+        var premiere = rangees.get(0);
+        var lignes = new ArrayList<LigneDetails>(rangees.size());
+        for (var rangee : rangees) {
+            if (rangee.quantite() != null) {
+                lignes.add(new LigneDetails(rangee.quantite(),
+                    new ProduitDetails(rangee.produitNom(), rangee.prixUnitaire())));
+            }
+        }
+        return Optional.of(new CommandeDetails(premiere.numero(), premiere.saisiele(),
+            new ClientDetails(premiere.societe(), premiere.contact()), lignes));
+    }
+}
@@ -0,0 +1,37 @@
+package comptoirs.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Une commande et ses lignes, telles qu'exportées (une commande par ligne JSON, cf. CommandeController.exporter).
+ * Les associations sont représentées par leur clé : code du client, référence du produit.
+ */
+public record CommandeExport(
+    Integer numero,
+    String client,
+    LocalDate saisiele,
+    LocalDate envoyeele,
+    BigDecimal remise,
+    List<LigneExport> lignes) {
+
+    public record LigneExport(Integer produit, Integer quantite) { }
+
+    /**
+     * Une ligne du résultat de la requête d'export : la commande est répétée pour chaque ligne de commande.
+     * Si la commande n'a pas de ligne, on obtient une seule rangée, avec un produit et une quantité null.
+     * @see comptoirs.dao.CommandeRepository#exporterRangees()
+     */
+    public record Rangee(Integer numero, String client, LocalDate saisiele, LocalDate envoyeele, BigDecimal remise,
+                         Integer produit, Integer quantite) {
+
+        /**
+         * @param lignes les lignes de la commande
+         * @return la commande de cette rangée, avec ses lignes
+         */
+        public CommandeExport commande(List<LigneExport> lignes) {
+            return new CommandeExport(numero, client, saisiele, envoyeele, remise, lignes);
+        }
+    }
+}
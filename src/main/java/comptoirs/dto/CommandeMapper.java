@@ -0,0 +1,62 @@
+package comptoirs.dto;
+
+import java.util.ArrayList;
+
+import org.springframework.stereotype.Component;
+
+import comptoirs.entity.Client;
+import comptoirs.entity.Commande;
+import comptoirs.entity.Ligne;
+
+/**
+ * Conversion des entités en DTO, écrite "à la main" : pas de réflexion, et on voit exactement
+ * quelles associations (éventuellement "lazy") sont parcourues.
+ * Produit les mêmes DTO que ModelMapper (ex: LigneDTO.produitNom = ligne.produit.nom).
+ */
+@Component
+public class CommandeMapper {
+
+    /**
+     * @param commande la commande à convertir, son client et ses lignes (avec leur produit) sont parcourus
+     * @return le DTO de la commande
+     */
+    public CommandeDTO toDTO(Commande commande) {
+        var dto = new CommandeDTO();
+        dto.setNumero(commande.getNumero());
+        if (commande.getClient() != null) {
+            dto.setClient(toDTO(commande.getClient()));
+        }
+        if (commande.getLignes() != null) {
+            var lignes = new ArrayList<LigneDTO>(commande.getLignes().size());
+            for (var ligne : commande.getLignes()) {
+                lignes.add(toDTO(ligne));
+            }
+            dto.setLignes(lignes);
+        }
+        return dto;
+    }
+
+    /**
+     * @param ligne la ligne à convertir, son produit est parcouru
+     * @return le DTO de la ligne
+     */
+    public LigneDTO toDTO(Ligne ligne) {
+        var dto = new LigneDTO();
+        if (ligne.getProduit() != null) {
+            dto.setProduitNom(ligne.getProduit().getNom());
+        }
+        dto.setQuantite(ligne.getQuantite());
+        return dto;
+    }
+
+    /**
+     * @param client le client à convertir
+     * @return le DTO du client
+     */
+    public ClientDTO toDTO(Client client) {
+        var dto = new ClientDTO();
+        dto.setSociete(client.getSociete());
+        dto.setContact(client.getContact());
+        return dto;
+    }
+}
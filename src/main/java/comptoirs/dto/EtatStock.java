@@ -0,0 +1,6 @@
+package comptoirs.dto;
+
+/**
+ * Les quantités et la disponibilité d'un produit, diffusées aux abonnés (cf. FluxStockService)
+ */
+public record EtatStock(Integer reference, int unitesEnStock, int unitesCommandees, boolean indisponible) { }
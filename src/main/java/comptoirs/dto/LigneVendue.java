@@ -0,0 +1,12 @@
+package comptoirs.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Une ligne de commande avec les informations utiles aux analyses de ventes (cf. AnalyseVentesService) :
+ * le prix et la catégorie du produit, la date et la remise de la commande, le pays du client
+ * @see comptoirs.dao.LigneRepository#lignesVenduesApres(int)
+ */
+public record LigneVendue(Integer id, Integer produit, Integer categorie, String pays, LocalDate saisiele,
+                          Integer quantite, BigDecimal prixUnitaire, BigDecimal remise) { }
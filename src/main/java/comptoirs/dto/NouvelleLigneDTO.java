@@ -0,0 +1,20 @@
+package comptoirs.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Une ligne à ajouter à une commande : un produit et une quantité
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NouvelleLigneDTO {
+    @NotNull
+    private Integer produitRef;
+    @Positive
+    private int quantite;
+}
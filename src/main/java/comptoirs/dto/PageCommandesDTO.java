@@ -0,0 +1,18 @@
+package comptoirs.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Une page de commandes, pour la pagination "keyset"
+ */
+@Data
+@AllArgsConstructor
+public class PageCommandesDTO {
+    private List<CommandeDTO> commandes;
+    // Le curseur à transmettre pour obtenir la page suivante (le numéro de la dernière commande),
+    // null si c'est la dernière page
+    private Integer suivant;
+}
@@ -0,0 +1,11 @@
+package comptoirs.dto;
+
+import java.util.List;
+
+/**
+ * Un panier : une commande en cours de saisie, gardée en mémoire jusqu'à sa validation (cf. PanierService)
+ * @param id l'identifiant du panier, à rappeler pour le modifier
+ * @param client la clé du client
+ * @param lignes les produits et quantités, dans l'ordre de leur ajout
+ */
+public record PanierDTO(String id, String client, List<NouvelleLigneDTO> lignes) { }
@@ -0,0 +1,7 @@
+package comptoirs.dto;
+
+/**
+ * La quantité totale d'un produit dans un ensemble de lignes de commande
+ * @see comptoirs.dao.ProduitRepository#quantitesParProduit(java.util.Collection)
+ */
+public record QuantiteParProduit(Integer reference, Long quantite) { }
@@ -0,0 +1,13 @@
+package comptoirs.dto;
+
+/**
+ * Les statistiques d'utilisation d'un cache (cf. spring.cache.caffeine.spec dans application.properties)
+ * @param taille le nombre (approximatif) d'entrées dans le cache
+ * @param succes le nombre de lectures trouvées dans le cache
+ * @param echecs le nombre de lectures absentes du cache (la valeur a été calculée)
+ * @param tauxSucces la proportion de lectures trouvées dans le cache
+ * @param evictions le nombre d'entrées retirées du cache pour respecter sa taille ou sa durée de vie
+ *                  (les évictions explicites, ex: @CacheEvict, ne sont pas comptées)
+ */
+public record StatistiquesCache(long taille, long succes, long echecs, double tauxSucces, long evictions) {
+}
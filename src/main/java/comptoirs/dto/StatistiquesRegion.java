@@ -0,0 +1,12 @@
+package comptoirs.dto;
+
+/**
+ * Les statistiques d'utilisation d'une région du cache de second niveau de Hibernate
+ * (le nombre d'entrées n'est pas connu : l'API JCache ne le donne pas)
+ * @param succes le nombre de lectures trouvées dans la région
+ * @param echecs le nombre de lectures absentes de la région (lues dans la base)
+ * @param tauxSucces la proportion de lectures trouvées dans la région
+ * @param ajouts le nombre d'entrées ajoutées à la région
+ */
+public record StatistiquesRegion(long succes, long echecs, double tauxSucces, long ajouts) {
+}
@@ -0,0 +1,11 @@
+package comptoirs.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Les ventes cumulées pour une valeur d'un critère d'analyse (ex: une catégorie, un pays, un mois)
+ * @param cle la valeur du critère (ex: "France", "1996-07")
+ * @param quantite le nombre d'unités vendues
+ * @param chiffreAffaires le montant des ventes, remises déduites
+ */
+public record Ventes(String cle, long quantite, BigDecimal chiffreAffaires) { }
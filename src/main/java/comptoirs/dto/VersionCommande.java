@@ -0,0 +1,7 @@
+package comptoirs.dto;
+
+/**
+ * La version d'une commande (verrouillage optimiste)
+ * @see comptoirs.dao.CommandeRepository#expediablesParmi(java.util.Collection)
+ */
+public record VersionCommande(Integer numero, Integer version) { }
@@ -8,12 +8,17 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter @Setter @NoArgsConstructor @RequiredArgsConstructor @ToString
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Categorie {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categorie_code_seq")
+	@SequenceGenerator(name = "categorie_code_seq", sequenceName = "categorie_code_seq", allocationSize = 50)
 	@Setter(AccessLevel.NONE) // la clé est auto-générée par la BD, On ne veut pas de "setter"
 	private Integer code;
 
@@ -28,6 +33,7 @@ public class Categorie {
 
 	@ToString.Exclude
 	@OneToMany(cascade = {CascadeType.PERSIST, CascadeType.REFRESH}, mappedBy = "categorie")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 	@JsonIgnoreProperties({"categorie", "lignes"})
 	private List<Produit> produits = new LinkedList<>();
 
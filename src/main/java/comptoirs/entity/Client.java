@@ -1,10 +1,14 @@
 package comptoirs.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +19,9 @@ import java.util.List;
 @NoArgsConstructor
 @RequiredArgsConstructor
 @ToString
+// Dans le cache de second niveau de Hibernate (région configurée dans application.conf)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Client {
 
     @Id
@@ -53,6 +60,16 @@ public class Client {
     @Column(length = 24)
     private String fax;
 
+    // Nombre total d'articles commandés par le client (somme des quantités de ses lignes de commande)
+    // Tenu à jour par CommandeService.ajouterLigne, pour ne pas recalculer la somme à chaque commande
+    // cf. CompteursService pour la vérification / reconstruction
+    // Lecture seule en JSON : sans "setter", Jackson écrirait directement le champ (ex: PATCH /api/clients/...)
+    @ColumnDefault("0")
+    @Setter(AccessLevel.NONE)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @ToString.Exclude
+    private int nombreArticlesCommandes = 0;
+
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "client")
     @ToString.Exclude
     @JsonIgnoreProperties({"client", "lignes"})
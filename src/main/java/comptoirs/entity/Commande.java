@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Size;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -18,9 +19,13 @@ import java.util.List;
 @NoArgsConstructor
 @RequiredArgsConstructor
 @ToString
+// Pour la pagination des commandes d'un client (cf. CommandeRepository)
+@Table(indexes = @Index(columnList = "client_code, numero"))
 public class Commande {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// Comme pour Ligne, les clés sont réservées par blocs de 50
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "commande_numero_seq")
+	@SequenceGenerator(name = "commande_numero_seq", sequenceName = "commande_numero_seq", allocationSize = 50)
 	@Basic(optional = false)
 	@Column(nullable = false)
 	@Setter(AccessLevel.NONE) // la clé est auto-générée par la BD, On ne veut pas de "setter"
@@ -52,6 +57,14 @@ public class Commande {
 	@Column(nullable = false, precision = 10, scale = 2)
 	private BigDecimal remise = BigDecimal.ZERO;
 
+	// Verrouillage optimiste, comme pour Produit : deux expéditions simultanées d'une même commande
+	// ne peuvent pas être enregistrées toutes les deux (cf. CommandeService.enregistreExpedition)
+	@Version
+	@ColumnDefault("0")
+	@Setter(AccessLevel.NONE)
+	@ToString.Exclude
+	private int version = 0;
+
 	@OneToMany(cascade = CascadeType.ALL, mappedBy = "commande", orphanRemoval = true)
 	@JsonIgnoreProperties({"commande"})
 	private List<Ligne> lignes = new LinkedList<>();
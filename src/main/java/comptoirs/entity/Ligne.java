@@ -12,7 +12,10 @@ import lombok.*;
 })
 public class Ligne {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// Clés générées par une séquence, réservées par blocs de 50 (optimiseur "pooled" de Hibernate) :
+	// pas d'aller-retour vers le SGBD pour chaque INSERT, qui peuvent alors être regroupés en lots JDBC
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ligne_id_seq")
+	@SequenceGenerator(name = "ligne_id_seq", sequenceName = "ligne_id_seq", allocationSize = 50)
 	@Basic(optional = false)
 	@Column(nullable = false)
 	@Setter(AccessLevel.NONE) // la clé est auto-générée par la BD, On ne veut pas de "setter"
@@ -1,9 +1,13 @@
 package comptoirs.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.util.LinkedList;
@@ -11,9 +15,12 @@ import java.util.List;
 
 @Entity
 @Getter @Setter @NoArgsConstructor @RequiredArgsConstructor @ToString
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Produit {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "produit_reference_seq")
+	@SequenceGenerator(name = "produit_reference_seq", sequenceName = "produit_reference_seq", allocationSize = 50)
 	@Setter(AccessLevel.NONE) // la clé est autogénérée par la BD, On ne veut pas de "setter"
 	private Integer reference = null;
 
@@ -37,8 +44,26 @@ public class Produit {
 	@ToString.Exclude
 	private int niveauDeReappro = 0;
 
+	// Nombre total d'unités vendues (somme des quantités des lignes de commande de ce produit)
+	// Tenu à jour par CommandeService.ajouterLigne, pour les statistiques de ventes
+	// Lecture seule en JSON, comme Client.nombreArticlesCommandes (ex: PATCH /api/produits/...)
+	@ColumnDefault("0")
+	@Setter(AccessLevel.NONE)
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@ToString.Exclude
+	private int unitesVendues = 0;
+
 	private boolean indisponible = false;
 
+	// Version de la ligne, pour le verrouillage optimiste : une entité modifiée d'après une version périmée
+	// n'est pas enregistrée (ObjectOptimisticLockingFailureException), au lieu d'écraser les modifications
+	// concurrentes. Incrémentée aussi par les requêtes UPDATE de ProduitRepository (ex: reserverStock)
+	@Version
+	@ColumnDefault("0")
+	@Setter(AccessLevel.NONE)
+	@ToString.Exclude
+	private int version = 0;
+
 	@ManyToOne(optional = false)
 	@NonNull
 	@ToString.Exclude
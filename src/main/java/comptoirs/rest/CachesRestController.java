@@ -0,0 +1,65 @@
+package comptoirs.rest;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.SessionFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import comptoirs.dto.StatistiquesCache;
+import comptoirs.dto.StatistiquesRegion;
+import jakarta.persistence.EntityManagerFactory;
+
+@RestController // Cette classe est un contrôleur REST
+@RequestMapping(path = "/services/caches") // chemin d'accès
+public class CachesRestController {
+	private final CacheManager cacheManager;
+	private final EntityManagerFactory entityManagerFactory;
+	// @Autowired
+	public CachesRestController(CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+		this.cacheManager = cacheManager;
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	/**
+	 * @return les statistiques de chaque cache de l'application, par nom de cache
+	 */
+	@GetMapping
+	public Map<String, StatistiquesCache> statistiques() {
+		var resultat = new TreeMap<String, StatistiquesCache>();
+		for (var nom : cacheManager.getCacheNames()) {
+			if (cacheManager.getCache(nom) instanceof CaffeineCache cache) {
+				var stats = cache.getNativeCache().stats();
+				resultat.put(nom, new StatistiquesCache(cache.getNativeCache().estimatedSize(),
+					stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount()));
+			}
+		}
+		return resultat;
+	}
+
+	/**
+	 * Nécessite hibernate.generate_statistics=true
+	 * @return les statistiques de chaque région du cache de second niveau de Hibernate (entités, collections,
+	 * résultats de requêtes), par nom de région
+	 */
+	@GetMapping("hibernate")
+	public Map<String, StatistiquesRegion> statistiquesHibernate() {
+		var statistiques = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		var resultat = new TreeMap<String, StatistiquesRegion>();
+		for (var region : statistiques.getSecondLevelCacheRegionNames()) {
+			var stats = statistiques.getCacheRegionStatistics(region);
+			if (stats != null) {
+				long lectures = stats.getHitCount() + stats.getMissCount();
+				// Comme Caffeine : un taux de 1 s'il n'y a pas eu de lecture
+				double tauxSucces = lectures == 0 ? 1.0 : (double) stats.getHitCount() / lectures;
+				resultat.put(region, new StatistiquesRegion(stats.getHitCount(), stats.getMissCount(),
+					tauxSucces, stats.getPutCount()));
+			}
+		}
+		return resultat;
+	}
+}
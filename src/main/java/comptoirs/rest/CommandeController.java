@@ -1,45 +1,160 @@
 package comptoirs.rest;
 
+import comptoirs.dao.CommandeRepository;
 import comptoirs.dto.CommandeDTO;
+import comptoirs.dto.CommandeMapper;
 import comptoirs.dto.LigneDTO;
+import comptoirs.dto.NouvelleLigneDTO;
+import comptoirs.dto.PageCommandesDTO;
 import comptoirs.entity.Commande;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import comptoirs.service.CommandeService;
+import comptoirs.service.ExportService;
 
 @RestController // Cette classe est un contrôleur REST
 @RequestMapping(path = "/services/commandes") // chemin d'accès
 @Slf4j
+@Validated // Les annotations de validation sont actives sur les paramètres (ex: @Max)
 public class CommandeController {
 	private final CommandeService commandeService;
-	private final ModelMapper mapper;
+	private final CommandeRepository commandeDao;
+	private final CommandeMapper mapper;
+	private final ExportService exportService;
+	// Une commande par ligne : sans l'indentation configurée pour les autres réponses (spring.jackson...)
+	private final ObjectWriter ndjson;
 	// @Autowired
-	public CommandeController(CommandeService commandeService, ModelMapper mapper) {
+	public CommandeController(CommandeService commandeService, CommandeRepository commandeDao, CommandeMapper mapper,
+			ExportService exportService, ObjectMapper objectMapper) {
 		this.commandeService = commandeService;
+		this.commandeDao = commandeDao;
 		this.mapper = mapper;
+		this.exportService = exportService;
+		this.ndjson = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
 	}
 
 	@PostMapping("ajouterPour/{clientCode}")
 	public CommandeDTO ajouter(@PathVariable @NonNull String clientCode) {
         log.info("ajouterPour {}", clientCode);
 		Commande commande = commandeService.creerCommande(clientCode);
-		return mapper.map(commande, CommandeDTO.class);
+		return mapper.toDTO(commande);
 	}
 
 	@PostMapping("expedier/{commandeNum}")
 	public CommandeDTO expedier(@PathVariable Integer commandeNum) {
         log.info("expedier {}", commandeNum);
-		return mapper.map(commandeService.enregistreExpedition(commandeNum), CommandeDTO.class);
+		return mapper.toDTO(commandeService.enregistreExpedition(commandeNum));
+	}
+
+	/**
+	 * Expédie plusieurs commandes, en une seule transaction (tout ou rien)
+	 * @param commandeNums les clés des commandes, en JSON : [10702, 10835, ...]
+	 * @return le nombre de commandes expédiées
+	 */
+	@PostMapping("expedier")
+	public int expedierVague(@RequestBody List<Integer> commandeNums) {
+        log.info("expedier ({} commandes)", commandeNums.size());
+		return commandeService.enregistreExpeditions(commandeNums);
 	}
 
 	@PostMapping("ajouterLigne")
 	public LigneDTO ajouterLigne(@RequestParam int commandeNum, @RequestParam int produitRef, @RequestParam int quantite) {
         log.info("ajouterLigne {} {} {}", commandeNum, produitRef, quantite);
 		var ligne = commandeService.ajouterLigne(commandeNum, produitRef, quantite);
-		return mapper.map(ligne, LigneDTO.class);
+		return mapper.toDTO(ligne);
+	}
+
+	/**
+	 * Ajoute plusieurs lignes à une commande, en une seule transaction (tout ou rien)
+	 * @param commandeNum la clé de la commande
+	 * @param lignes les produits et quantités à commander, en JSON : [{"produitRef": 1, "quantite": 10}, ...]
+	 * @return les lignes de commande créées
+	 */
+	@PostMapping("ajouterLignes/{commandeNum}")
+	public List<LigneDTO> ajouterLignes(@PathVariable int commandeNum, @RequestBody List<NouvelleLigneDTO> lignes) {
+        log.info("ajouterLignes {} ({} lignes)", commandeNum, lignes.size());
+		return commandeService.ajouterLignes(commandeNum, lignes).stream()
+			.map(mapper::toDTO)
+			.toList();
+	}
+
+	/**
+	 * Les commandes d'un client, par pages (numéro croissant)
+	 * @param clientCode la clé du client
+	 * @param apres le curseur "suivant" renvoyé avec la page précédente (absent pour la première page)
+	 * @param taille le nombre maximum de commandes par page
+	 * @return une page de commandes, et le curseur de la page suivante
+	 */
+	@GetMapping("parClient/{clientCode}")
+	public PageCommandesDTO parClient(@PathVariable String clientCode,
+			@RequestParam(defaultValue = "0") int apres,
+			@RequestParam(defaultValue = "20") @Positive @Max(100) int taille) {
+		var commandes = commandeDao.findByClientCodeApres(clientCode, apres, Limit.of(taille));
+		return page(commandes, taille);
+	}
+
+	/**
+	 * Les commandes en cours d'un client, par pages (numéro croissant : les plus anciennes d'abord)
+	 * @param clientCode la clé du client
+	 * @param apres le curseur "suivant" renvoyé avec la page précédente (absent pour la première page)
+	 * @param taille le nombre maximum de commandes par page
+	 * @return une page de commandes, et le curseur de la page suivante
+	 */
+	@GetMapping("enCours/{clientCode}")
+	public PageCommandesDTO enCours(@PathVariable String clientCode,
+			@RequestParam(defaultValue = "0") int apres,
+			@RequestParam(defaultValue = "20") @Positive @Max(100) int taille) {
+		var commandes = commandeDao.commandesEnCoursPourApres(clientCode, apres, Limit.of(taille));
+		return page(commandes, taille);
+	}
+
+	/**
+	 * Exporte toutes les commandes avec leurs lignes, au format "newline-delimited JSON" : une commande par ligne,
+	 * écrite dès qu'elle est lue. La mémoire utilisée ne dépend pas du nombre de commandes.
+	 * La réponse est produite par un thread séparé (traitement asynchrone, cf. spring.mvc.async.request-timeout)
+	 * @return {"numero":10248,"client":"VINET","saisiele":"1996-07-04","envoyeele":"1996-07-16","remise":0.00,
+	 *          "lignes":[{"produit":11,"quantite":12},...]}, une commande par ligne
+	 */
+	@GetMapping(path = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exporter() {
+        log.info("exporter");
+		StreamingResponseBody corps = sortie -> {
+			var tampon = new BufferedOutputStream(sortie, 64 * 1024);
+			int nombre = exportService.exporterCommandes(commande -> {
+				try {
+					tampon.write(ndjson.writeValueAsBytes(commande));
+					tampon.write('\n');
+				} catch (IOException e) { // ex: le client a fermé la connexion
+					throw new UncheckedIOException(e);
+				}
+			});
+			tampon.flush();
+			log.info("exporter : {} commandes", nombre);
+		};
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corps);
+	}
+
+	private PageCommandesDTO page(List<Commande> commandes, int taille) {
+		// Si la page est pleine, il y a peut-être une page suivante
+		Integer suivant = commandes.size() == taille ? commandes.get(taille - 1).getNumero() : null;
+		return new PageCommandesDTO(commandes.stream().map(mapper::toDTO).toList(), suivant);
 	}
 }
@@ -0,0 +1,58 @@
+package comptoirs.rest;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import comptoirs.service.CompteursService;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController // Cette classe est un contrôleur REST
+@RequestMapping(path = "/services/compteurs") // chemin d'accès
+@Slf4j
+public class CompteursRestController {
+	private final CompteursService compteursService;
+	// @Autowired
+	public CompteursRestController(CompteursService compteursService) {
+		this.compteursService = compteursService;
+	}
+
+	/**
+	 * @return les clés des clients dont le nombre d'articles commandés est incohérent
+	 */
+	@GetMapping("articlesCommandes")
+	public List<String> verifierArticlesCommandes() {
+		return compteursService.verifierArticlesCommandes();
+	}
+
+	/**
+	 * Recalcule le nombre d'articles commandés de tous les clients
+	 * @return le nombre de clients mis à jour
+	 */
+	@PostMapping("articlesCommandes")
+	public int reconstruireArticlesCommandes() {
+		log.info("reconstruireArticlesCommandes");
+		return compteursService.reconstruireArticlesCommandes();
+	}
+
+	/**
+	 * @return les clés des produits dont le nombre d'unités vendues est incohérent
+	 */
+	@GetMapping("unitesVendues")
+	public List<Integer> verifierUnitesVendues() {
+		return compteursService.verifierUnitesVendues();
+	}
+
+	/**
+	 * Recalcule le nombre d'unités vendues de tous les produits
+	 * @return le nombre de produits mis à jour
+	 */
+	@PostMapping("unitesVendues")
+	public int reconstruireUnitesVendues() {
+		log.info("reconstruireUnitesVendues");
+		return compteursService.reconstruireUnitesVendues();
+	}
+}
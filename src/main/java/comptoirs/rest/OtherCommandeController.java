@@ -1,7 +1,7 @@
 package comptoirs.rest;
 
 import comptoirs.dao.CommandeRepository;
-import comptoirs.dto.CommandeProjection;
+import comptoirs.dto.CommandeDetails;
 import comptoirs.entity.Commande;
 import comptoirs.entity.Ligne;
 
@@ -41,8 +41,8 @@ public class OtherCommandeController {
     }
 
 	@GetMapping("projection/{commandeNum}")
-	public CommandeProjection projection(@PathVariable Integer commandeNum) {
-		return commandeDao.findProjectionByNumero(commandeNum);
+	public CommandeDetails projection(@PathVariable Integer commandeNum) {
+		return commandeDao.findDetailsByNumero(commandeNum).orElse(null);
 	}
 
     @GetMapping("deserialize")
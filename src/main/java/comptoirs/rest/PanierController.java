@@ -0,0 +1,76 @@
+package comptoirs.rest;
+
+import comptoirs.dto.CommandeDTO;
+import comptoirs.dto.CommandeMapper;
+import comptoirs.dto.PanierDTO;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.*;
+
+import comptoirs.service.PanierService;
+
+/**
+ * Saisie d'une commande dans un panier, gardé en mémoire (cf. PanierService) :
+ * chaque modification du panier évite une transaction ; la commande est enregistrée à la validation.
+ */
+@RestController // Cette classe est un contrôleur REST
+@RequestMapping(path = "/services/paniers") // chemin d'accès
+@Slf4j
+public class PanierController {
+	private final PanierService panierService;
+	private final CommandeMapper mapper;
+	// @Autowired
+	public PanierController(PanierService panierService, CommandeMapper mapper) {
+		this.panierService = panierService;
+		this.mapper = mapper;
+	}
+
+	@PostMapping("pour/{clientCode}")
+	public PanierDTO creer(@PathVariable @NonNull String clientCode) {
+        log.info("panier pour {}", clientCode);
+		return panierService.creer(clientCode);
+	}
+
+	@GetMapping("{id}")
+	public PanierDTO consulter(@PathVariable String id) {
+		return panierService.consulter(id);
+	}
+
+	/**
+	 * Ajoute une quantité d'un produit au panier
+	 */
+	@PostMapping("{id}/ajouter")
+	public PanierDTO ajouter(@PathVariable String id, @RequestParam int produitRef, @RequestParam int quantite) {
+		return panierService.ajouter(id, produitRef, quantite);
+	}
+
+	/**
+	 * Modifie la quantité d'un produit dans le panier (0 pour le retirer)
+	 */
+	@PutMapping("{id}/lignes/{produitRef}")
+	public PanierDTO modifier(@PathVariable String id, @PathVariable int produitRef, @RequestParam int quantite) {
+		return panierService.modifier(id, produitRef, quantite);
+	}
+
+	@DeleteMapping("{id}/lignes/{produitRef}")
+	public PanierDTO retirer(@PathVariable String id, @PathVariable int produitRef) {
+		return panierService.retirer(id, produitRef);
+	}
+
+	@DeleteMapping("{id}")
+	public void abandonner(@PathVariable String id) {
+		panierService.abandonner(id);
+	}
+
+	/**
+	 * Enregistre la commande du panier et toutes ses lignes, en une seule transaction (tout ou rien).
+	 * En cas d'erreur (ex: pas assez de stock), le panier est conservé.
+	 * @return la commande créée
+	 */
+	@PostMapping("{id}/valider")
+	public CommandeDTO valider(@PathVariable String id) {
+        log.info("valider panier {}", id);
+		return mapper.toDTO(panierService.valider(id));
+	}
+}
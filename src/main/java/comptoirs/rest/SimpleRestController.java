@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -28,9 +29,12 @@ public class SimpleRestController {
 
     /**
      * Un contrôleur qui renvoie une liste d'entités
+     * La liste est en cache (cf. CategorieRepository) : pas de requête SQL à chaque appel
+     * Lecture seule : utilise la réplique du SGBD si elle est configurée (profil "replica")
      * @return la liste des catégories
      */
     @GetMapping(path = "list")
+    @Transactional(readOnly = true)
 	public List<Categorie> getAll() {
 		// This returns a JSON or XML with the categories
 		return categorieDao.findAll();
@@ -40,6 +44,7 @@ public class SimpleRestController {
      * Ajoute une nouvelle catégorie par POST ou GET
      * @param libelle le libellé de la nouvelle catégorie
      * @param description la description de la nouvelle catégorie
+     * La liste et le nombre des catégories en cache sont évincés (cf. CategorieRepository.save)
      * @return la catégorie nouvellement créée, avec sa clé auto-générée
      * @throws DuplicateException si le libellé existe déjà
      */
@@ -60,7 +65,7 @@ public class SimpleRestController {
 
 	/**
      * Un contrôleur qui génère du HTML "à la main"
-     * @return un fragment de HTML qui montre le nombre de catégories dans la base
+     * @return un fragment de HTML qui montre le nombre de catégories dans la base (en cache)
      */
     @GetMapping(path = "combien",
 		produces = MediaType.TEXT_HTML_VALUE) // pas de vue , génère directement du HTML
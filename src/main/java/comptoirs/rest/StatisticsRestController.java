@@ -11,17 +11,21 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.MediaType;
 
 
-import comptoirs.dao.ProduitRepository;
 import comptoirs.dto.UnitesParProduit;
+import comptoirs.service.StatistiquesService;
 
 @RestController
 @RequestMapping(path = "/services/stats")
+// Pas de transaction ici : les demandes simultanées partagent une requête SQL, faite dans sa propre transaction
+// en lecture seule (cf. StatistiquesService)
 public class StatisticsRestController {
 	@Autowired
-	private ProduitRepository dao;
+	private StatistiquesService statistiques;
 
 	/**
 	 * Unites vendues pour chaque produit d'une catégorie donnée.
+	 * Lit les compteurs pré-calculés Produit.unitesVendues (cf. CompteursService pour leur vérification)
+	 * Le résultat peut dater de comptoirs.stats.fraicheur
 	 *
 	 * @param code le code de la catégorie à traiter
 	 * @return le nombre d'unités vendus pour chaque produit en format JSON
@@ -29,7 +33,7 @@ public class StatisticsRestController {
 	@GetMapping(path = "unitesVenduesPourCategorie/{code}",
 		produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE })
 	public List<UnitesParProduit> unitesVenduesPourCategorie(@PathVariable final Integer code) {
-		return dao.produitsVendusPour(code);
+		return statistiques.unitesVenduesPour(code);
 	}
 
 	/**
@@ -41,13 +45,13 @@ public class StatisticsRestController {
 	 */
 	@GetMapping(path = "unitesVenduesPourCategorieV2/{code}", produces = { MediaType.APPLICATION_JSON_VALUE })
 	public List<Object> unitesVenduesPourCategorieV2(@PathVariable final Integer code) {
-		return dao.produitsVendusPourV2(code);
+		return statistiques.unitesVenduesPourV2(code);
 	}
 
 	@PostMapping(path = "unitesVenduesPourCategorie/{code}",
 		produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE })
 	public List<UnitesParProduit> unitesVenduesPourCategorieV3(@PathVariable final Integer code) {
-		return dao.produitsVendusPour(code);
+		return statistiques.unitesVenduesPour(code);
 	}
 
 }
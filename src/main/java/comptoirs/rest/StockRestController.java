@@ -0,0 +1,37 @@
+package comptoirs.rest;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import comptoirs.service.FluxStockService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Les changements de stock des produits, poussés aux clients (Server-Sent Events, cf. FluxStockService)
+ */
+@RestController // Cette classe est un contrôleur REST
+@RequestMapping(path = "/services/stock") // chemin d'accès
+@Slf4j
+public class StockRestController {
+	private final FluxStockService fluxStock;
+	// @Autowired
+	public StockRestController(FluxStockService fluxStock) {
+		this.fluxStock = fluxStock;
+	}
+
+	/**
+	 * Flux d'événements "stock" : d'abord l'état de tous les produits, puis l'état des produits modifiés,
+	 * regroupés (au plus un message par intervalle de comptoirs.stock.coalescence).
+	 * Chaque message est un tableau JSON de {reference, unitesEnStock, unitesCommandees, indisponible}.
+	 * À utiliser avec EventSource en javascript, cf. StockEnDirect.html
+	 * @return le flux, ou 503 s'il y a déjà trop d'abonnés
+	 */
+	@GetMapping(path = "flux", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter flux() {
+		log.debug("Nouvel abonné au flux du stock");
+		return fluxStock.abonner();
+	}
+}
@@ -0,0 +1,70 @@
+package comptoirs.rest;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import comptoirs.dto.Ventes;
+import comptoirs.service.AnalyseVentesService;
+import comptoirs.service.AnalyseVentesService.Critere;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chiffre d'affaires et unités vendues, calculés en mémoire (cf. AnalyseVentesService) :
+ * pas de requête SQL, mais les lignes de commande les plus récentes (quelques secondes) peuvent manquer
+ */
+@RestController // Cette classe est un contrôleur REST
+@RequestMapping(path = "/services/stats/ventes") // chemin d'accès
+@Slf4j
+public class VentesRestController {
+	private final AnalyseVentesService analyseVentes;
+	// @Autowired
+	public VentesRestController(AnalyseVentesService analyseVentes) {
+		this.analyseVentes = analyseVentes;
+	}
+
+	/**
+	 * @return les ventes de chaque catégorie, par code de catégorie
+	 */
+	@GetMapping("parCategorie")
+	public List<Ventes> parCategorie() {
+		return analyseVentes.ventesPar(Critere.CATEGORIE);
+	}
+
+	/**
+	 * @return les ventes de chaque produit, par référence de produit
+	 */
+	@GetMapping("parProduit")
+	public List<Ventes> parProduit() {
+		return analyseVentes.ventesPar(Critere.PRODUIT);
+	}
+
+	/**
+	 * @return les ventes dans chaque pays (pays du client)
+	 */
+	@GetMapping("parPays")
+	public List<Ventes> parPays() {
+		return analyseVentes.ventesPar(Critere.PAYS);
+	}
+
+	/**
+	 * @return les ventes de chaque mois (date de saisie de la commande), au format "1996-07"
+	 */
+	@GetMapping("parMois")
+	public List<Ventes> parMois() {
+		return analyseVentes.ventesPar(Critere.MOIS);
+	}
+
+	/**
+	 * Recopie toutes les lignes de commande en mémoire (ex: après des modifications par l'API REST /api)
+	 * @return le nombre de lignes copiées
+	 */
+	@PostMapping("reconstruire")
+	public int reconstruire() {
+		log.info("reconstruire");
+		return analyseVentes.reconstruire();
+	}
+}
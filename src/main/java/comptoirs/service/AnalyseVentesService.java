@@ -0,0 +1,270 @@
+package comptoirs.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import comptoirs.dao.LigneRepository;
+import comptoirs.dto.LigneVendue;
+import comptoirs.dto.Ventes;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Analyse des ventes (chiffre d'affaires par catégorie, produit, pays du client, mois), sans requête SQL :
+ * les lignes de commande sont copiées en mémoire, "en colonnes" (un tableau de types primitifs par information),
+ * et chaque analyse parcourt ces tableaux en parallèle.
+ * La copie est complétée régulièrement par les lignes ajoutées depuis (cf. comptoirs.analyse.rafraichissement).
+ * Les clés des lignes sont réservées par blocs (allocationSize de Ligne), par chaque instance de l'application :
+ * une ligne enregistrée après une autre peut avoir une clé inférieure. Chaque rafraîchissement relit donc
+ * les lignes dont la clé dépasse la plus grande clé lue moins une "fenêtre" (comptoirs.analyse.fenetre,
+ * au moins un bloc par instance), sans recopier celles qui sont déjà lues.
+ * Les lignes modifiées ou supprimées, et celles qui sont enregistrées trop tard pour la fenêtre
+ * (longue transaction), ne sont prises en compte que par reconstruire(), appelé régulièrement
+ * (cf. comptoirs.analyse.reconstruction).
+ * Le chiffre d'affaires est calculé avec le prix actuel des produits, au moment de la copie.
+ */
+@Service
+@Slf4j
+public class AnalyseVentesService {
+    public enum Critere { CATEGORIE, PRODUIT, PAYS, MOIS }
+
+    // Nombre de lignes parcourues par chaque tâche de l'analyse parallèle
+    private static final int TAILLE_BLOC = 64 * 1024;
+
+    /**
+     * Les colonnes des lignes de commande : la ligne i a le produit produit[i], la quantité quantite[i]...
+     * Les tableaux peuvent être plus grands que le nombre de lignes : ils sont partagés avec l'instantané suivant,
+     * qui ajoute des lignes après les "taille" premières. Les cases lues ne sont plus jamais modifiées.
+     * @param mois l'année et le mois de la commande, codés année * 12 + mois - 1
+     * @param pays l'indice du pays du client dans "paysConnus"
+     * @param montant le montant de la ligne, remise déduite, en centimes
+     * @param derniereLigne la plus grande clé des lignes lues
+     * @param recentes les clés des lignes lues dans la fenêtre (supérieures à derniereLigne - fenetre)
+     */
+    private record Instantane(int taille, int derniereLigne, Set<Integer> recentes,
+                              int[] categorie, int[] produit, int[] pays, int[] mois, int[] quantite, long[] montant,
+                              List<String> paysConnus, int categorieMax, int produitMax, int moisMin, int moisMax) {
+        static final Instantane VIDE = new Instantane(0, 0, Set.of(), new int[0], new int[0], new int[0], new int[0], new int[0],
+            new long[0], List.of(), -1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE);
+    }
+
+    private final LigneRepository ligneDao;
+    private final TransactionTemplate lecture;
+    private final int fenetre;
+    // Une seule copie à la fois (pas de "synchronized" : un thread virtuel bloqué resterait attaché à son porteur)
+    private final ReentrantLock verrou = new ReentrantLock();
+    // Lu par les analyses sans synchronisation, remplacé par rafraichir() et reconstruire()
+    private volatile Instantane instantane = Instantane.VIDE;
+
+    // @Autowired
+    public AnalyseVentesService(LigneRepository ligneDao, PlatformTransactionManager transactionManager,
+                                @Value("${comptoirs.analyse.fenetre:100}") int fenetre) {
+        this.ligneDao = ligneDao;
+        this.fenetre = fenetre;
+        this.lecture = new TransactionTemplate(transactionManager);
+        this.lecture.setReadOnly(true);
+    }
+
+    /**
+     * Ajoute à la copie les lignes de commande créées depuis le dernier rafraîchissement
+     * @return le nombre de lignes ajoutées
+     */
+    @Scheduled(fixedDelayString = "${comptoirs.analyse.rafraichissement:10000}")
+    public int rafraichir() {
+        verrou.lock();
+        try {
+            var avant = instantane;
+            instantane = copier(avant);
+            return instantane.taille() - avant.taille();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Recopie toutes les lignes de commande (ex: après des modifications ou des suppressions de lignes).
+     * Les analyses utilisent l'ancienne copie jusqu'à ce que la nouvelle soit complète.
+     * @return le nombre de lignes copiées
+     */
+    @Scheduled(cron = "${comptoirs.analyse.reconstruction:0 0 3 * * *}")
+    public int reconstruire() {
+        verrou.lock();
+        try {
+            instantane = copier(Instantane.VIDE);
+            log.info("Analyse des ventes : {} lignes copiées", instantane.taille());
+            return instantane.taille();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * @return un nouvel instantané : les lignes de "avant", suivies des lignes de commande créées depuis
+     */
+    private Instantane copier(Instantane avant) {
+        return lecture.execute(status -> {
+            // Les lignes de la fenêtre déjà lues sont relues, puis ignorées (cf. ajouter)
+            try (var lignes = ligneDao.lignesVenduesApres(avant.derniereLigne() - fenetre)) {
+                return ajouter(avant, lignes.iterator(), fenetre);
+            }
+        });
+    }
+
+    /**
+     * Les ventes cumulées pour chaque valeur d'un critère, d'après la copie des lignes de commande
+     * @param critere le critère de regroupement
+     * @return les ventes pour chaque valeur du critère présente dans les lignes, par valeur croissante
+     *         (ex: par clé de catégorie, par mois, par nom de pays)
+     */
+    public List<Ventes> ventesPar(Critere critere) {
+        var s = instantane;
+        if (s.taille() == 0) {
+            return List.of();
+        }
+        int[] cles = switch (critere) {
+            case CATEGORIE -> s.categorie();
+            case PRODUIT -> s.produit();
+            case PAYS -> s.pays();
+            case MOIS -> s.mois();
+        };
+        // Les valeurs du critère sont des indices dans les tableaux des totaux, à partir de "min"
+        int min = critere == Critere.MOIS ? s.moisMin() : 0;
+        int nombre = switch (critere) {
+            case CATEGORIE -> s.categorieMax() + 1;
+            case PRODUIT -> s.produitMax() + 1;
+            case PAYS -> s.paysConnus().size();
+            case MOIS -> s.moisMax() - s.moisMin() + 1;
+        };
+        // Chaque tâche cumule un bloc de lignes dans ses propres tableaux, qui sont ensuite additionnés
+        int blocs = (s.taille() + TAILLE_BLOC - 1) / TAILLE_BLOC;
+        var totaux = IntStream.range(0, blocs).parallel()
+            .mapToObj(bloc -> {
+                var t = new Totaux(nombre);
+                int fin = Math.min(s.taille(), (bloc + 1) * TAILLE_BLOC);
+                for (int i = bloc * TAILLE_BLOC; i < fin; i++) {
+                    int k = cles[i] - min;
+                    t.quantite[k] += s.quantite()[i];
+                    t.montant[k] += s.montant()[i];
+                }
+                return t;
+            })
+            .reduce(Totaux::ajouter)
+            .orElseThrow();
+        var ventes = new ArrayList<Ventes>();
+        for (int k = 0; k < nombre; k++) {
+            if (totaux.quantite[k] != 0) {
+                ventes.add(new Ventes(libelle(s, critere, k + min), totaux.quantite[k],
+                    BigDecimal.valueOf(totaux.montant[k], 2)));
+            }
+        }
+        if (critere == Critere.PAYS) { // Les pays sont numérotés dans l'ordre où ils ont été rencontrés
+            ventes.sort(Comparator.comparing(Ventes::cle));
+        }
+        return ventes;
+    }
+
+    private static String libelle(Instantane s, Critere critere, int valeur) {
+        return switch (critere) {
+            case CATEGORIE, PRODUIT -> String.valueOf(valeur);
+            case PAYS -> s.paysConnus().get(valeur);
+            case MOIS -> String.format("%04d-%02d", valeur / 12, valeur % 12 + 1);
+        };
+    }
+
+    /**
+     * Les totaux d'une tâche de l'analyse parallèle, indicés par valeur du critère
+     */
+    private static class Totaux {
+        final long[] quantite;
+        final long[] montant;
+
+        Totaux(int nombre) {
+            quantite = new long[nombre];
+            montant = new long[nombre];
+        }
+
+        Totaux ajouter(Totaux autres) {
+            for (int k = 0; k < quantite.length; k++) {
+                quantite[k] += autres.quantite[k];
+                montant[k] += autres.montant[k];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * @return un nouvel instantané : les lignes de "avant", suivies des nouvelles lignes
+     *         (celles qui ne sont pas dans avant.recentes())
+     */
+    private static Instantane ajouter(Instantane avant, Iterator<LigneVendue> lignes, int fenetre) {
+        int taille = avant.taille();
+        int derniereLigne = avant.derniereLigne();
+        var recentes = new ArrayList<>(avant.recentes());
+        int[] categorie = avant.categorie(), produit = avant.produit(), pays = avant.pays(), mois = avant.mois(),
+            quantite = avant.quantite();
+        long[] montant = avant.montant();
+        var paysConnus = new ArrayList<>(avant.paysConnus());
+        Map<String, Integer> codesPays = new HashMap<>();
+        for (int i = 0; i < paysConnus.size(); i++) {
+            codesPays.put(paysConnus.get(i), i);
+        }
+        int categorieMax = avant.categorieMax(), produitMax = avant.produitMax();
+        int moisMin = avant.moisMin(), moisMax = avant.moisMax();
+        while (lignes.hasNext()) {
+            var ligne = lignes.next();
+            if (avant.recentes().contains(ligne.id())) {
+                continue;
+            }
+            if (taille == quantite.length) {
+                // Les tableaux de "avant" ne sont pas modifiés : on les recopie dans des tableaux plus grands
+                int capacite = Math.max(1024, taille * 2);
+                categorie = Arrays.copyOf(categorie, capacite);
+                produit = Arrays.copyOf(produit, capacite);
+                pays = Arrays.copyOf(pays, capacite);
+                mois = Arrays.copyOf(mois, capacite);
+                quantite = Arrays.copyOf(quantite, capacite);
+                montant = Arrays.copyOf(montant, capacite);
+            }
+            categorie[taille] = ligne.categorie();
+            produit[taille] = ligne.produit();
+            pays[taille] = codesPays.computeIfAbsent(Objects.requireNonNullElse(ligne.pays(), ""), p -> {
+                paysConnus.add(p);
+                return paysConnus.size() - 1;
+            });
+            mois[taille] = ligne.saisiele().getYear() * 12 + ligne.saisiele().getMonthValue() - 1;
+            quantite[taille] = ligne.quantite();
+            montant[taille] = ligne.prixUnitaire()
+                .multiply(BigDecimal.valueOf(ligne.quantite()))
+                .multiply(BigDecimal.ONE.subtract(ligne.remise()))
+                .setScale(2, RoundingMode.HALF_UP)
+                .unscaledValue().longValueExact();
+            categorieMax = Math.max(categorieMax, categorie[taille]);
+            produitMax = Math.max(produitMax, produit[taille]);
+            moisMin = Math.min(moisMin, mois[taille]);
+            moisMax = Math.max(moisMax, mois[taille]);
+            derniereLigne = Math.max(derniereLigne, ligne.id());
+            recentes.add(ligne.id());
+            taille++;
+        }
+        int debutFenetre = derniereLigne - fenetre;
+        recentes.removeIf(id -> id <= debutFenetre);
+        return new Instantane(taille, derniereLigne, Set.copyOf(recentes), categorie, produit, pays, mois, quantite, montant,
+            List.copyOf(paysConnus), categorieMax, produitMax, moisMin, moisMax);
+    }
+}
@@ -0,0 +1,112 @@
+package comptoirs.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Calculs partagés ("single flight") : des appels simultanés pour une même clé (ex: les mêmes statistiques,
+ * demandées au même moment par plusieurs tableaux de bord) partagent un seul calcul, fait par le premier appel ;
+ * les suivants attendent son résultat au lieu de refaire le calcul.
+ * Le résultat peut aussi être réutilisé pendant une courte durée après la fin du calcul (fraicheur) :
+ * une donnée un peu plus ancienne, mais pas de calcul. Il n'est pas oublié quand les données sont modifiées :
+ * il a au plus "fraicheur" de retard.
+ * <ul>
+ * <li>Le résultat est partagé entre les appels : il ne doit pas être modifié (liste non modifiable...).</li>
+ * <li>Une erreur du calcul est transmise à tous les appels qui l'attendaient ; elle n'est pas conservée.</li>
+ * <li>Le calcul est fait par le thread du premier appel, dans son contexte (transaction...). Les appels
+ *     qui attendent ne doivent pas tenir de ressource rare, par exemple une connexion JDBC dans une transaction
+ *     ouverte : c'est le calcul qui doit ouvrir sa propre transaction.</li>
+ * <li>Le calcul ne doit pas demander la même clé (il attendrait son propre résultat).</li>
+ * </ul>
+ * Métrique calcul.partage (tags : nom, resultat = calcul, attente ou recent), cf. /actuator/metrics
+ * @param <K> le type des clés (ex: le code d'une catégorie)
+ * @param <V> le type des résultats
+ */
+public class CalculPartage<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> enCours = new ConcurrentHashMap<>();
+    // Les résultats des derniers calculs terminés, null si la fraicheur est nulle
+    private final Cache<K, V> recents;
+    private final Counter calculs;
+    private final Counter attentes;
+    private final Counter recentsUtilises;
+
+    /**
+     * @param nom le nom des métriques
+     * @param fraicheur la durée pendant laquelle un résultat est réutilisé après la fin de son calcul
+     *                  (0 : seuls les appels simultanés partagent le calcul)
+     * @param clesMax le nombre maximum de résultats conservés pendant cette durée
+     * @param meterRegistry les métriques
+     */
+    public CalculPartage(String nom, Duration fraicheur, long clesMax, MeterRegistry meterRegistry) {
+        this.recents = fraicheur.isZero() ? null : Caffeine.newBuilder()
+            .maximumSize(clesMax)
+            .expireAfterWrite(fraicheur)
+            .build();
+        this.calculs = meterRegistry.counter("calcul.partage", "nom", nom, "resultat", "calcul");
+        this.attentes = meterRegistry.counter("calcul.partage", "nom", nom, "resultat", "attente");
+        this.recentsUtilises = meterRegistry.counter("calcul.partage", "nom", nom, "resultat", "recent");
+    }
+
+    /**
+     * Renvoie le résultat récent pour cette clé s'il y en a un, sinon attend le calcul en cours pour cette clé
+     * s'il y en a un, sinon fait le calcul.
+     * @param cle la clé : deux appels avec des clés égales (equals) ont le même résultat
+     * @param calcul le calcul du résultat, exécuté par ce thread si aucun calcul n'est en cours pour cette clé
+     * @return le résultat du calcul
+     * @throws RuntimeException l'exception levée par le calcul (y compris s'il a été fait par un autre appel)
+     */
+    public V obtenir(K cle, Supplier<V> calcul) {
+        if (recents != null) {
+            V recent = recents.getIfPresent(cle);
+            if (recent != null) {
+                recentsUtilises.increment();
+                return recent;
+            }
+        }
+        var nouveau = new CompletableFuture<V>();
+        var existant = enCours.putIfAbsent(cle, nouveau);
+        if (existant != null) {
+            attentes.increment();
+            return attendre(existant);
+        }
+        calculs.increment();
+        try {
+            V resultat = calcul.get();
+            // Conservé avant la fin du calcul "en cours" : un appel qui arrive ensuite trouve l'un ou l'autre
+            if (recents != null && resultat != null) {
+                recents.put(cle, resultat);
+            }
+            nouveau.complete(resultat);
+            return resultat;
+        } catch (RuntimeException | Error e) {
+            nouveau.completeExceptionally(e);
+            throw e;
+        } finally {
+            enCours.remove(cle, nouveau);
+        }
+    }
+
+    private V attendre(CompletableFuture<V> calcul) {
+        try {
+            return calcul.join();
+        } catch (CompletionException e) {
+            // L'exception du calcul, telle quelle
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
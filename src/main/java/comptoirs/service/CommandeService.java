@@ -2,8 +2,18 @@ package comptoirs.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,29 +22,50 @@ import comptoirs.dao.ClientRepository;
 import comptoirs.dao.CommandeRepository;
 import comptoirs.dao.LigneRepository;
 import comptoirs.dao.ProduitRepository;
+import comptoirs.dto.NouvelleLigneDTO;
+import comptoirs.dto.QuantiteParProduit;
+import comptoirs.dto.VersionCommande;
 import comptoirs.entity.Commande;
 import comptoirs.entity.Ligne;
+import comptoirs.entity.Produit;
 
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
 
 @Service
 @Validated // Les annotations de validation sont actives sur les méthodes de ce service
 // (ex: @Positive)
+@Timed(value = "commandes.service", histogram = true) // Durée de chaque méthode, cf. /actuator/prometheus
+// Les méthodes annotées @Reessai sont réessayées en cas de conflit entre transactions (cf. ReessaiAspect)
 public class CommandeService {
     // La couche "Service" utilise la couche "Accès aux données" pour effectuer les traitements
     private final CommandeRepository commandeDao;
     private final ClientRepository clientDao;
     private final LigneRepository ligneDao;
     private final ProduitRepository produitDao;
+    private final MeterRegistry meterRegistry;
+    // Signale les modifications du stock (cf. FluxStockService)
+    private final ApplicationEventPublisher evenements;
+    // Pour le verrouillage optimiste des commandes modifiées (cf. commandeNonEnvoyee)
+    private final EntityManager entityManager;
 
     // @Autowired
     // Spring initialisera automatiquement ces paramètres
-    public CommandeService(CommandeRepository commandeDao, ClientRepository clientDao, LigneRepository ligneDao, ProduitRepository produitDao) {
+    public CommandeService(CommandeRepository commandeDao, ClientRepository clientDao, LigneRepository ligneDao, ProduitRepository produitDao,
+                           MeterRegistry meterRegistry, ApplicationEventPublisher evenements, EntityManager entityManager) {
         this.commandeDao = commandeDao;
         this.clientDao = clientDao;
         this.ligneDao = ligneDao;
         this.produitDao = produitDao;
+        this.meterRegistry = meterRegistry;
+        this.evenements = evenements;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -58,9 +89,8 @@ public class CommandeService {
         // On initialise l'adresse de livraison avec l'adresse du client
         nouvelleCommande.setAdresseLivraison(client.getAdresse());
         // Si le client a déjà commandé plus de 100 articles, on lui offre une remise de 15%
-        // La requête SQL nécessaire est définie dans l'interface ClientRepository
-        var nbArticles = clientDao.nombreArticlesCommandesPar(clientCode);
-        if (nbArticles > 100) {
+        // Le nombre d'articles est tenu à jour dans le client (cf. ajouterLigne), pas besoin de requête SQL
+        if (client.getNombreArticlesCommandes() > 100) {
             nouvelleCommande.setRemise(new BigDecimal("0.15"));
         }
         // On enregistre la commande (génère la clé)
@@ -73,12 +103,17 @@ public class CommandeService {
      * Service métier :
      *     Enregistre une nouvelle ligne de commande pour une commande connue par sa clé,
      *     Incrémente la quantité totale commandée (Produit.unitesCommandees) avec la quantite à commander
+     *     Incrémente le nombre d'unités vendues du produit (Produit.unitesVendues)
+     *     Incrémente le nombre d'articles commandés par le client (Client.nombreArticlesCommandes)
      * Règles métier :
      *     - le produit référencé doit exister et ne pas être indisponible
      *     - la commande doit exister
      *     - la commande ne doit pas être déjà envoyée (le champ 'envoyeele' doit être null)
      *     - la quantité doit être positive
      *     - La quantité en stock du produit ne doit pas être inférieure au total des quantités commandées
+     * Concurrence :
+     *     si la commande est modifiée par une autre transaction avant la fin de celle-ci (expédiée, ou une autre ligne
+     *     ajoutée), la méthode est réessayée (cf. Reessai) ; si la commande a été expédiée, la ligne est alors refusée
      * <pre>
      *
      *  @param commandeNum la clé de la commande
@@ -89,35 +124,126 @@ public class CommandeService {
      *  @throws IllegalStateException si il n'y a pas assez de stock, si la commande a déjà été envoyée, ou si le produit est indisponible
      *  @throws jakarta.validation.ConstraintViolationException si la quantité n'est pas positive
      */
+    @Reessai
     @Transactional
     public Ligne ajouterLigne(int commandeNum, int produitRef, @Positive int quantite) {
-        // On vérifie que le produit existe
-        var produit = produitDao.findById(produitRef).orElseThrow();
-        // On  vérifie que le produit n'est pas marqué indisponible
+        // On vérifie que le produit existe (données de référence en cache, pas de requête SQL)
+        var produit = produitDao.findCatalogueByReference(produitRef).orElseThrow();
+        // On vérifie que le produit n'est pas marqué indisponible
+        // Seules les données de référence du produit en cache sont à jour, pas son stock : il est vérifié par reserverStock
         if (produit.isIndisponible()) {
-            throw new IllegalStateException("Produit indisponible");
+            throw rejet("indisponible", "Produit indisponible");
         }
-        // On vérifie qu'il y a assez de stock
-        if (produit.getUnitesEnStock() < quantite + produit.getUnitesCommandees()) {
-            throw new IllegalStateException("Pas assez de stock");
-        }
-        // On vérifie que la commande existe
-        var commande = commandeDao.findById(commandeNum).orElseThrow();
-        // On vérifie que la commande n'est pas déjà envoyée
-        if (commande.getEnvoyeele() != null) {
-            throw new IllegalStateException("Commande déjà envoyée");
+        // On vérifie que la commande existe et n'est pas déjà envoyée
+        var commande = commandeNonEnvoyee(commandeNum);
+        // On incrémente la quantité commandée (et le nombre d'unités vendues).
+        // On ne modifie pas l'entité : une autre transaction a pu réserver ce produit depuis sa lecture.
+        // La requête vérifie le stock et l'incrémente de manière atomique (cf. ProduitRepository)
+        if (produitDao.reserverStock(produitRef, quantite) == 0) {
+            throw rejet("stock", "Pas assez de stock");
         }
+        evenements.publishEvent(new StockModifie(List.of(produitRef)));
+        // On incrémente le nombre d'articles commandés par le client (pour la règle de remise)
+        clientDao.ajouterArticlesCommandes(commande.getClient().getCode(), quantite);
         // On crée une ligne de commande pour cette commande
         var nouvelleLigne = new Ligne(commande, produit, quantite);
         // On enregistre la ligne de commande (génère la clé)
         ligneDao.save(nouvelleLigne);
-        // On incrémente la quantité commandée
-        produit.setUnitesCommandees(produit.getUnitesCommandees() + quantite);
-        // Inutile de sauvegarder le produit, les entités modifiées par une transaction
-        // sont automatiquement sauvegardées à la fin de la transaction
         return nouvelleLigne;
     }
 
+    /**
+     * <pre>
+     * Service métier :
+     *     Enregistre plusieurs nouvelles lignes pour une commande connue par sa clé, en une seule transaction.
+     *     Mêmes règles métier que ajouterLigne, pour chaque ligne.
+     *     Si une des lignes ne respecte pas les règles, aucune ligne n'est enregistrée.
+     * Performances :
+     *     - les produits sont chargés par une seule requête
+     *     - les lignes sont insérées par lots JDBC (cf. hibernate.jdbc.batch_size dans application.properties)
+     * Concurrence : comme ajouterLigne
+     * <pre>
+     *
+     *  @param commandeNum la clé de la commande
+     *  @param lignes les produits et quantités à commander (un même produit ne peut apparaître qu'une fois)
+     *  @return les lignes de commande créées
+     *  @throws java.util.NoSuchElementException si la commande ou un des produits n'existe pas
+     *  @throws IllegalStateException si il n'y a pas assez de stock, si la commande a déjà été envoyée, ou si un produit est indisponible
+     *  @throws IllegalArgumentException si un produit apparaît plusieurs fois
+     *  @throws jakarta.validation.ConstraintViolationException si la liste est vide ou si une quantité n'est pas positive
+     */
+    @Reessai
+    @Transactional
+    public List<Ligne> ajouterLignes(int commandeNum, @NotEmpty List<@Valid NouvelleLigneDTO> lignes) {
+        // Une commande ne peut contenir qu'une ligne par produit
+        var references = new HashSet<Integer>();
+        for (var ligne : lignes) {
+            if (!references.add(ligne.getProduitRef())) {
+                throw new IllegalArgumentException("Produit en double : " + ligne.getProduitRef());
+            }
+        }
+        // On charge tous les produits en une seule requête
+        var produits = produitDao.findAllById(references).stream()
+            .collect(Collectors.toMap(Produit::getReference, Function.identity()));
+        // On vérifie que les produits existent, sont disponibles et qu'il y a assez de stock
+        for (var ligne : lignes) {
+            var produit = produits.get(ligne.getProduitRef());
+            if (produit == null) {
+                throw new NoSuchElementException("Produit inconnu : " + ligne.getProduitRef());
+            }
+            verifierDisponibilite(produit, ligne.getQuantite());
+        }
+        // On vérifie que la commande existe et n'est pas déjà envoyée
+        var commande = commandeNonEnvoyee(commandeNum);
+        // On réserve le stock de chaque produit (cf. ajouterLigne), par référence croissante :
+        // chaque réservation verrouille le produit jusqu'à la fin de la transaction ; si deux commandes
+        // simultanées verrouillaient les mêmes produits dans des ordres différents, elles s'interbloqueraient
+        // En cas d'échec, l'exception annule toute la transaction
+        for (var ligne : lignes.stream().sorted(Comparator.comparing(NouvelleLigneDTO::getProduitRef)).toList()) {
+            if (produitDao.reserverStock(ligne.getProduitRef(), ligne.getQuantite()) == 0) {
+                throw rejet("stock", "Pas assez de stock");
+            }
+        }
+        var nouvellesLignes = new ArrayList<Ligne>(lignes.size());
+        int nombreArticles = 0;
+        for (var ligne : lignes) {
+            nouvellesLignes.add(new Ligne(commande, produits.get(ligne.getProduitRef()), ligne.getQuantite()));
+            nombreArticles += ligne.getQuantite();
+        }
+        evenements.publishEvent(new StockModifie(references));
+        // On incrémente le nombre d'articles commandés par le client, une seule fois
+        clientDao.ajouterArticlesCommandes(commande.getClient().getCode(), nombreArticles);
+        // On enregistre toutes les lignes de commande
+        ligneDao.saveAll(nouvellesLignes);
+        return nouvellesLignes;
+    }
+
+    /**
+     * <pre>
+     * Service métier :
+     *     Enregistre une nouvelle commande et toutes ses lignes, en une seule transaction (ex: validation d'un panier).
+     *     Mêmes règles métier que creerCommande, puis que ajouterLignes.
+     *     Si une des lignes ne respecte pas les règles, rien n'est enregistré.
+     * <pre>
+     *
+     *  @param clientCode la clé du client
+     *  @param lignes les produits et quantités à commander (un même produit ne peut apparaître qu'une fois)
+     *  @return la commande créée, avec ses lignes
+     *  @throws java.util.NoSuchElementException si le client ou un des produits n'existe pas
+     *  @throws IllegalStateException si il n'y a pas assez de stock, ou si un produit est indisponible
+     *  @throws IllegalArgumentException si un produit apparaît plusieurs fois
+     *  @throws jakarta.validation.ConstraintViolationException si la liste est vide ou si une quantité n'est pas positive
+     */
+    @Reessai
+    @Transactional
+    public Commande creerCommandeAvecLignes(@NonNull String clientCode, @NotEmpty List<@Valid NouvelleLigneDTO> lignes) {
+        var commande = creerCommande(clientCode);
+        // La commande vient d'être enregistrée : ajouterLignes la retrouve sans requête SQL
+        var nouvellesLignes = ajouterLignes(commande.getNumero(), lignes);
+        commande.getLignes().addAll(nouvellesLignes);
+        return commande;
+    }
+
     /**
      * Service métier : Enregistre l'expédition d'une commande connue par sa clé
      * Règles métier :
@@ -127,25 +253,151 @@ public class CommandeService {
      * - Pour chaque produit dans les lignes de la commande :
      *        décrémente la quantité en stock  (Produit.unitesEnStock)    de la quantité dans la commande
      *        décrémente la quantité commandée (Produit.unitesCommandees) de la quantité dans la commande
+     * Concurrence : si la commande est modifiée par une autre transaction (ex: une expédition simultanée, une ligne
+     * ajoutée) entre sa lecture et son enregistrement, la méthode est réessayée (cf. Reessai, Commande.version)
      * @param commandeNum la clé de la commande
      * @return la commande mise à jour
      * @throws java.util.NoSuchElementException si la commande n'existe pas
      * @throws IllegalStateException si la commande a déjà été envoyée
      */
+    @Reessai
     @Transactional
     public Commande enregistreExpedition(int commandeNum) {
-        var commande = commandeDao.findById(commandeNum).orElseThrow();
+        // On charge la commande, ses lignes et leurs produits en une seule requête (renvoyés au client)
+        var commande = commandeDao.findAvecLignesByNumero(commandeNum).orElseThrow();
         if (commande.getEnvoyeele() != null) {
-            throw new IllegalStateException("Commande déjà envoyée");
+            throw rejet("envoyee", "Commande déjà envoyée");
         }
+        // Les produits de la commande ne sont plus en stock, ni "en commande"
+        // Une seule requête pour tous les produits de la commande, relative aux valeurs en base
+        // pour ne pas écraser les réservations concurrentes (cf. ProduitRepository)
+        produitDao.sortirDuStock(List.of(commandeNum));
+        // La commande est enregistrée à la fin de la transaction, après les produits : dans le même ordre
+        // que ajouterLigne (produits, puis commande), sinon les deux transactions pourraient s'interbloquer
         commande.setEnvoyeele(LocalDate.now());
-        commande.getLignes().forEach(ligne -> {
-            var produit = ligne.getProduit();
-            // Les produits de la commande ne sont plus en stock
-            produit.setUnitesEnStock(produit.getUnitesEnStock() - ligne.getQuantite());
-            // Les produits de la commande ne sont plus "en commande"
-            produit.setUnitesCommandees(produit.getUnitesCommandees() - ligne.getQuantite());
-        });
+        evenements.publishEvent(new StockModifie(
+            commande.getLignes().stream().map(ligne -> ligne.getProduit().getReference()).toList()));
+        return commande;
+    }
+
+    /**
+     * <pre>
+     * Service métier :
+     *     Enregistre l'expédition de plusieurs commandes (une "vague"), en une seule transaction.
+     *     Mêmes règles métier que enregistreExpedition, pour chaque commande.
+     *     Si une des commandes ne respecte pas les règles, aucune commande n'est expédiée.
+     * Performances :
+     *     le nombre de requêtes ne dépend pas du nombre de commandes (au lieu de 3 requêtes par commande) :
+     *     - une requête pour vérifier les commandes (et lire leurs versions)
+     *     - une requête pour la quantité totale de chaque produit dans les lignes de ces commandes
+     *     - une requête UPDATE par produit (au plus le nombre de produits du catalogue), décrémenté de sa quantité totale
+     *     - une requête UPDATE pour la date d'expédition (et la version) de toutes les commandes
+     *     - une requête pour vérifier les versions des commandes
+     * Concurrence : les produits sont verrouillés avant les commandes, par référence croissante, dans le même ordre
+     *     que ajouterLigne et ajouterLignes : pas d'interblocage entre ces transactions.
+     *     Une ligne ajoutée à une commande de la vague après la lecture des quantités incrémente la version
+     *     de la commande (cf. ajouterLigne) : la vérification des versions le détecte, et la méthode est réessayée
+     *     (cf. Reessai, Commande.version), comme enregistreExpedition
+     * <pre>
+     *
+     * @param commandeNums les clés des commandes (une commande ne peut apparaître qu'une fois)
+     * @return le nombre de commandes expédiées
+     * @throws java.util.NoSuchElementException si des commandes n'existent pas (leurs clés sont dans le message)
+     * @throws IllegalStateException si des commandes ont déjà été envoyées (leurs clés sont dans le message)
+     * @throws IllegalArgumentException si une commande apparaît plusieurs fois
+     * @throws jakarta.validation.ConstraintViolationException si la liste est vide
+     */
+    @Reessai
+    @Transactional
+    public int enregistreExpeditions(@NotEmpty List<Integer> commandeNums) {
+        var numeros = new LinkedHashSet<Integer>();
+        for (var numero : commandeNums) {
+            if (!numeros.add(numero)) {
+                throw new IllegalArgumentException("Commande en double : " + numero);
+            }
+        }
+        var versions = commandeDao.expediablesParmi(numeros);
+        if (versions.size() != numeros.size()) {
+            var expediables = versions.stream().map(VersionCommande::numero).collect(Collectors.toSet());
+            // On cherche les commandes refusées, pour les signaler
+            var refusees = numeros.stream().filter(numero -> !expediables.contains(numero)).toList();
+            var envoyees = commandeDao.findAllById(refusees).stream().map(Commande::getNumero).toList();
+            if (envoyees.size() != refusees.size()) {
+                var inconnues = refusees.stream().filter(numero -> !envoyees.contains(numero)).toList();
+                throw new NoSuchElementException("Commandes inconnues : " + inconnues);
+            }
+            throw rejet("envoyee", "Commandes déjà envoyées : " + envoyees);
+        }
+        // Les quantités sont cumulées par produit, pour toutes les commandes de la vague.
+        // Plus rapide que sortirDuStock(numeros), dont les sous-requêtes parcourent les lignes de toutes les
+        // commandes pour chaque produit
+        // Par référence croissante, dans le même ordre que les réservations (cf. ajouterLignes)
+        var produits = produitDao.quantitesParProduit(numeros);
+        for (var produit : produits) {
+            produitDao.sortirQuantiteDuStock(produit.reference(), produit.quantite());
+        }
+        // Les commandes sont verrouillées après les produits, comme dans ajouterLigne.
+        // La requête ne modifie pas les commandes envoyées par une autre transaction depuis la vérification
+        if (commandeDao.enregistrerExpeditions(numeros, LocalDate.now()) != numeros.size()) {
+            throw rejet("envoyee", "Commande déjà envoyée");
+        }
+        // Chaque commande a été incrémentée une fois, par la requête précédente : sinon une autre transaction
+        // l'a modifiée (ex: ligne ajoutée) depuis la vérification, et les quantités lues sont peut-être incomplètes
+        long attendue = versions.stream().mapToLong(VersionCommande::version).sum() + numeros.size();
+        if (commandeDao.sommeDesVersions(numeros) != attendue) {
+            throw new ObjectOptimisticLockingFailureException(Commande.class, numeros);
+        }
+        evenements.publishEvent(new StockModifie(produits.stream().map(QuantiteParProduit::reference).toList()));
+        return numeros.size();
+    }
+
+    /**
+     * Compte le rejet d'une opération par une règle métier (métrique "commandes.rejets", étiquetée par motif)
+     * @param motif le motif du rejet
+     * @param message le message de l'exception
+     * @return l'exception à lever
+     */
+    private IllegalStateException rejet(String motif, String message) {
+        meterRegistry.counter("commandes.rejets", "motif", motif).increment();
+        return new IllegalStateException(message);
+    }
+
+    /**
+     * Charge une commande à laquelle on ajoute des lignes, et vérifie qu'elle n'est pas déjà envoyée.
+     * Sa version est incrémentée à la fin de la transaction (verrouillage optimiste, une requête UPDATE) :
+     * si la commande a été modifiée entre temps (ex: expédiée), la transaction échoue
+     * (ObjectOptimisticLockingFailureException) au lieu d'ajouter des lignes à une commande envoyée.
+     * Une simple vérification de la version (LockModeType.OPTIMISTIC) ne suffirait pas : l'expédition pourrait
+     * être enregistrée entre la vérification et la fin de la transaction, sans voir les nouvelles lignes.
+     * @param commandeNum la clé de la commande
+     * @return la commande
+     * @throws java.util.NoSuchElementException si la commande n'existe pas
+     * @throws IllegalStateException si la commande a déjà été envoyée
+     */
+    private Commande commandeNonEnvoyee(int commandeNum) {
+        var commande = commandeDao.findById(commandeNum).orElseThrow();
+        if (commande.getEnvoyeele() != null) {
+            throw rejet("envoyee", "Commande déjà envoyée");
+        }
+        entityManager.lock(commande, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
         return commande;
     }
+
+    /**
+     * Vérifie qu'un produit peut être commandé, d'après les valeurs lues (pour échouer au plus tôt).
+     * La vérification définitive du stock est faite par ProduitRepository.reserverStock
+     * @param produit le produit à commander
+     * @param quantite la quantité commandée
+     * @throws IllegalStateException si le produit est indisponible ou s'il n'y a pas assez de stock
+     */
+    private void verifierDisponibilite(Produit produit, int quantite) {
+        // On  vérifie que le produit n'est pas marqué indisponible
+        if (produit.isIndisponible()) {
+            throw rejet("indisponible", "Produit indisponible");
+        }
+        // On vérifie qu'il y a assez de stock
+        if (produit.getUnitesEnStock() < quantite + produit.getUnitesCommandees()) {
+            throw rejet("stock", "Pas assez de stock");
+        }
+    }
 }
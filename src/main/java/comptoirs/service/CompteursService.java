@@ -0,0 +1,64 @@
+package comptoirs.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import comptoirs.dao.ClientRepository;
+import comptoirs.dao.ProduitRepository;
+
+/**
+ * Maintenance des compteurs tenus à jour de manière incrémentale par CommandeService
+ * (ex: Client.nombreArticlesCommandes, Produit.unitesVendues).
+ * Ces compteurs peuvent devenir incohérents si les tables sont modifiées sans passer par le service
+ * (ex: suppression d'une ligne par l'API REST /api) : on peut alors les vérifier et les reconstruire.
+ */
+@Service
+public class CompteursService {
+    private final ClientRepository clientDao;
+    private final ProduitRepository produitDao;
+
+    // @Autowired
+    public CompteursService(ClientRepository clientDao, ProduitRepository produitDao) {
+        this.clientDao = clientDao;
+        this.produitDao = produitDao;
+    }
+
+    /**
+     * Vérifie le nombre d'articles commandés de chaque client, par rapport à ses lignes de commande
+     * @return la liste des clés des clients dont le compteur est incohérent (vide si tout va bien)
+     */
+    @Transactional(readOnly = true)
+    public List<String> verifierArticlesCommandes() {
+        return clientDao.clientsAvecArticlesCommandesIncoherents();
+    }
+
+    /**
+     * Recalcule le nombre d'articles commandés de tous les clients à partir de leurs lignes de commande
+     * @return le nombre de clients mis à jour
+     */
+    @Transactional
+    public int reconstruireArticlesCommandes() {
+        return clientDao.recalculerArticlesCommandes();
+    }
+
+    /**
+     * Vérifie le nombre d'unités vendues de chaque produit, par rapport à ses lignes de commande
+     * (c'est à dire par rapport au résultat de ProduitRepository.produitsVendusPour)
+     * @return la liste des clés des produits dont le compteur est incohérent (vide si tout va bien)
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> verifierUnitesVendues() {
+        return produitDao.produitsAvecUnitesVenduesIncoherentes();
+    }
+
+    /**
+     * Recalcule le nombre d'unités vendues de tous les produits à partir de leurs lignes de commande
+     * @return le nombre de produits mis à jour
+     */
+    @Transactional
+    public int reconstruireUnitesVendues() {
+        return produitDao.recalculerUnitesVendues();
+    }
+}
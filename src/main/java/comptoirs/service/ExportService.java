@@ -0,0 +1,58 @@
+package comptoirs.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import comptoirs.dao.CommandeRepository;
+import comptoirs.dto.CommandeExport;
+
+/**
+ * Export de toutes les commandes (ex: rapprochement comptable quotidien), sans charger toute la table en mémoire :
+ * les commandes sont lues par un curseur et transmises une par une, puis oubliées.
+ */
+@Service
+public class ExportService {
+    private final CommandeRepository commandeDao;
+
+    // @Autowired
+    public ExportService(CommandeRepository commandeDao) {
+        this.commandeDao = commandeDao;
+    }
+
+    /**
+     * Transmet toutes les commandes, avec leurs lignes, par numéro croissant.
+     * La transaction (et donc la connexion JDBC) est conservée pendant tout l'export.
+     * @param destination reçoit chaque commande dès que toutes ses lignes ont été lues
+     * @return le nombre de commandes exportées
+     */
+    @Transactional(readOnly = true)
+    public int exporterCommandes(Consumer<CommandeExport> destination) {
+        int nombre = 0;
+        CommandeExport.Rangee commande = null; // La commande en cours de lecture
+        List<CommandeExport.LigneExport> lignes = new ArrayList<>();
+        try (var rangees = commandeDao.exporterRangees()) {
+            for (var iterateur = rangees.iterator(); iterateur.hasNext(); ) {
+                var rangee = iterateur.next();
+                if (commande != null && !commande.numero().equals(rangee.numero())) {
+                    // Les rangées d'une commande se suivent : la commande précédente est complète
+                    destination.accept(commande.commande(lignes));
+                    nombre++;
+                    lignes = new ArrayList<>();
+                }
+                commande = rangee;
+                if (rangee.produit() != null) {
+                    lignes.add(new CommandeExport.LigneExport(rangee.produit(), rangee.quantite()));
+                }
+            }
+        }
+        if (commande != null) {
+            destination.accept(commande.commande(lignes));
+            nombre++;
+        }
+        return nombre;
+    }
+}
@@ -0,0 +1,341 @@
+package comptoirs.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import comptoirs.dao.ProduitRepository;
+import comptoirs.dto.EtatStock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Diffusion en continu (Server-Sent Events) des changements de stock des produits :
+ * unitesEnStock, unitesCommandees, indisponible.
+ * <ul>
+ * <li>Les transactions de CommandeService signalent les produits modifiés (StockModifie) ;
+ *     ils sont notés après la validation de la transaction.</li>
+ * <li>Régulièrement (comptoirs.stock.coalescence), une seule requête lit l'état de tous les produits
+ *     modifiés depuis la diffusion précédente, quel que soit le nombre de transactions et d'abonnés.</li>
+ * <li>Chaque abonné a une file d'attente "coalescente" : au plus un état par produit, le plus récent.
+ *     Un abonné lent reçoit moins de messages, mais toujours l'état courant ; sa file ne dépasse pas
+ *     la taille du catalogue.</li>
+ * <li>Chaque état est converti en JSON une seule fois par diffusion, pour tous les abonnés.</li>
+ * <li>Un abonné dont un envoi reste bloqué trop longtemps (comptoirs.stock.envoi-max) est abandonné.
+ *     Le navigateur (EventSource) se reconnecte de lui-même et reçoit à nouveau l'état de tous les produits.</li>
+ * </ul>
+ * Les modifications du stock faites hors de CommandeService (ex: API REST /api/produits) ne sont pas diffusées.
+ */
+@Service
+@Slf4j
+public class FluxStockService {
+    /**
+     * Un abonné au flux, et ce qu'il lui reste à recevoir.
+     * Un seul envoi à la fois par abonné, sur un thread de "envois".
+     */
+    private class Abonne {
+        final SseEmitter emetteur;
+        // Le dernier état (en JSON) non encore envoyé de chaque produit
+        final Map<Integer, String> enAttente = new ConcurrentHashMap<>();
+        final AtomicBoolean envoiPlanifie = new AtomicBoolean();
+        volatile boolean battement;
+        // Début de l'envoi en cours (System.nanoTime()), 0 si aucun envoi en cours
+        volatile long debutEnvoi;
+        // Abandonné pendant un envoi bloqué : le flux est terminé à la fin de cet envoi
+        volatile boolean abandonne;
+        final AtomicBoolean threadRendu = new AtomicBoolean();
+
+        Abonne(SseEmitter emetteur) {
+            this.emetteur = emetteur;
+        }
+
+        void publier(Map<Integer, String> etats) {
+            enAttente.putAll(etats);
+            planifier();
+        }
+
+        void battre() {
+            battement = true;
+            planifier();
+        }
+
+        void planifier() {
+            if (envoiPlanifie.compareAndSet(false, true)) {
+                envois.execute(this::envoyer);
+            }
+        }
+
+        /**
+         * Envoie tout ce qui est en attente, jusqu'à ce que la file soit vide
+         */
+        private void envoyer() {
+            try {
+                while (!abandonne) {
+                    var lot = new ArrayList<String>();
+                    for (var reference : enAttente.keySet()) {
+                        var etat = enAttente.remove(reference);
+                        if (etat != null) {
+                            lot.add(etat);
+                        }
+                    }
+                    boolean battre = battement;
+                    battement = false;
+                    if (lot.isEmpty() && !battre) {
+                        avantFinEnvoi();
+                        envoiPlanifie.set(false);
+                        // Une publication a pu arriver juste avant : si personne d'autre ne l'envoie, on continue
+                        if ((enAttente.isEmpty() && !battement && !abandonne) || !envoiPlanifie.compareAndSet(false, true)) {
+                            return;
+                        }
+                        continue;
+                    }
+                    debutEnvoi = System.nanoTime();
+                    if (lot.isEmpty()) { // Commentaire SSE, ignoré par EventSource : garde la connexion ouverte
+                        emetteur.send(SseEmitter.event().comment(""));
+                    } else {
+                        emetteur.send(SseEmitter.event().name("stock")
+                            .data(lot.stream().collect(Collectors.joining(",", "[", "]")), MediaType.TEXT_PLAIN));
+                    }
+                    debutEnvoi = 0;
+                }
+                // Abandonné : l'envoi bloqué est enfin terminé, on ferme le flux
+                emetteur.complete();
+            } catch (IOException | IllegalStateException e) { // Client déconnecté, ou flux déjà terminé
+                debutEnvoi = 0;
+                abandonner(this, false);
+            } finally {
+                if (abandonne && threadRendu.compareAndSet(false, true)) {
+                    redimensionnerEnvois(-1);
+                }
+            }
+        }
+
+        boolean bloque(long maintenant) {
+            long debut = debutEnvoi;
+            return debut != 0 && maintenant - debut > envoiMax;
+        }
+    }
+
+    private final ProduitRepository produitDao;
+    private final TransactionTemplate lecture;
+    // Sans indentation : un message SSE multiligne serait mal découpé
+    private final ObjectWriter json;
+    // Abonnés abandonnés parce qu'un envoi était bloqué (les déconnexions ne sont pas comptées)
+    private final Counter abandons;
+    // Les envois sont bloquants : un abonné lent occupe un thread jusqu'à la fin de son envoi.
+    // Un thread est ajouté pour chaque abonné abandonné dont l'envoi est encore bloqué (cf. abandonner),
+    // pour que les autres abonnés ne manquent pas de threads
+    private final ThreadPoolExecutor envois;
+    private final int abonnesMax;
+    private final long dureeAbonnement;
+    private final long envoiMax;
+
+    // Les produits modifiés depuis la dernière diffusion
+    private final Set<Integer> modifies = ConcurrentHashMap.newKeySet();
+    // Les abonnés en attente de l'état initial, ajoutés aux "abonnes" à la prochaine diffusion
+    private final Queue<Abonne> nouveaux = new ConcurrentLinkedQueue<>();
+    private final Set<Abonne> abonnes = ConcurrentHashMap.newKeySet();
+
+    // @Autowired
+    public FluxStockService(ProduitRepository produitDao, PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                            @Value("${comptoirs.stock.abonnes-max:5000}") int abonnesMax,
+                            @Value("${comptoirs.stock.duree-abonnement:1800000}") long dureeAbonnement,
+                            @Value("${comptoirs.stock.envoi-max:10000}") long envoiMax,
+                            @Value("${comptoirs.stock.threads-envoi:16}") int threadsEnvoi) {
+        this.produitDao = produitDao;
+        // Pas en lecture seule : avec une réplique (profil "replica"), on lit le primaire,
+        // qui a déjà les modifications qu'on diffuse
+        this.lecture = new TransactionTemplate(transactionManager);
+        this.json = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.abonnesMax = abonnesMax;
+        this.dureeAbonnement = dureeAbonnement;
+        this.envoiMax = TimeUnit.MILLISECONDS.toNanos(envoiMax);
+        this.envois = new ThreadPoolExecutor(threadsEnvoi, threadsEnvoi, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new CustomizableThreadFactory("stock-"));
+        meterRegistry.gauge("stock.flux.abonnes", abonnes, Set::size);
+        this.abandons = meterRegistry.counter("stock.flux.abandons");
+    }
+
+    /**
+     * Ouvre un flux pour un nouvel abonné. Il reçoit d'abord l'état de tous les produits, puis leurs changements.
+     * Aucune requête SQL ici : avec "open-in-view", la connexion JDBC resterait attribuée à la requête HTTP,
+     * donc à l'abonné, pendant toute la durée du flux.
+     * @return le flux
+     * @throws ResponseStatusException (503) s'il y a déjà trop d'abonnés
+     */
+    public SseEmitter abonner() {
+        if (abonnes.size() + nouveaux.size() >= abonnesMax) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Trop d'abonnés au flux du stock");
+        }
+        var abonne = new Abonne(creerEmetteur());
+        // Fin normale, expiration de la durée de l'abonnement, déconnexion du client
+        abonne.emetteur.onCompletion(() -> retirer(abonne));
+        abonne.emetteur.onTimeout(() -> retirer(abonne));
+        abonne.emetteur.onError(e -> retirer(abonne));
+        nouveaux.add(abonne);
+        return abonne.emetteur;
+    }
+
+    /**
+     * @return le flux d'un nouvel abonné (remplacé par les tests, cf. FluxStockServiceTest)
+     */
+    SseEmitter creerEmetteur() {
+        return new SseEmitter(dureeAbonnement);
+    }
+
+    /**
+     * Note les produits modifiés par une transaction, une fois qu'elle est validée
+     */
+    @TransactionalEventListener
+    public void stockModifie(StockModifie evenement) {
+        modifies.addAll(evenement.references());
+    }
+
+    /**
+     * Envoie aux abonnés l'état des produits modifiés depuis la diffusion précédente,
+     * et aux nouveaux abonnés l'état de tous les produits.
+     * Abandonne les abonnés bloqués.
+     */
+    @Scheduled(fixedDelayString = "${comptoirs.stock.coalescence:500}")
+    public void diffuser() {
+        var references = new HashSet<Integer>();
+        for (var iterateur = modifies.iterator(); iterateur.hasNext(); ) {
+            references.add(iterateur.next());
+            iterateur.remove();
+        }
+        if (!references.isEmpty() && !abonnes.isEmpty()) {
+            var etats = enJson(lecture.execute(status -> produitDao.etatsStockDe(references)));
+            abonnes.forEach(abonne -> abonne.publier(etats));
+        }
+        var arrivees = new ArrayList<Abonne>();
+        for (Abonne abonne; (abonne = nouveaux.poll()) != null; ) {
+            arrivees.add(abonne);
+        }
+        if (!arrivees.isEmpty()) {
+            // Une seule requête pour tous les abonnés arrivés depuis la diffusion précédente
+            var tous = enJson(lecture.execute(status -> produitDao.etatsStock()));
+            for (var abonne : arrivees) {
+                abonnes.add(abonne);
+                abonne.publier(tous);
+            }
+        }
+        long maintenant = System.nanoTime();
+        abonnes.stream().filter(abonne -> abonne.bloque(maintenant)).forEach(abonne -> abandonner(abonne, true));
+    }
+
+    /**
+     * Envoie un commentaire aux abonnés sans activité : les proxys ne ferment pas la connexion,
+     * et les clients déconnectés sont détectés
+     */
+    @Scheduled(fixedRateString = "${comptoirs.stock.battement:15000}")
+    public void battre() {
+        abonnes.forEach(Abonne::battre);
+    }
+
+    private void retirer(Abonne abonne) {
+        abonnes.remove(abonne);
+        nouveaux.remove(abonne);
+    }
+
+    /**
+     * @param bloque true si l'abonné est abandonné parce qu'un envoi est bloqué
+     */
+    private void abandonner(Abonne abonne, boolean bloque) {
+        if (!abonnes.remove(abonne)) {
+            return; // Déjà terminé
+        }
+        abonne.enAttente.clear();
+        if (bloque) {
+            abandons.increment();
+            log.warn("Flux du stock : abonné abandonné, envoi bloqué depuis plus de {} ms",
+                TimeUnit.NANOSECONDS.toMillis(envoiMax));
+            // complete() attendrait la fin de l'envoi bloqué (les méthodes de SseEmitter sont synchronisées) :
+            // c'est le thread de l'envoi qui terminera le flux, ou constatera l'erreur, puis rendra son thread
+            redimensionnerEnvois(1);
+            abonne.abandonne = true;
+            abonne.planifier();
+        } else {
+            abonne.emetteur.completeWithError(new IOException("Abonné déconnecté"));
+        }
+    }
+
+    /**
+     * Ajoute (ou retire) des threads d'envoi
+     */
+    private synchronized void redimensionnerEnvois(int nombre) {
+        if (nombre > 0) {
+            envois.setMaximumPoolSize(envois.getMaximumPoolSize() + nombre);
+            envois.setCorePoolSize(envois.getCorePoolSize() + nombre);
+        } else {
+            envois.setCorePoolSize(envois.getCorePoolSize() + nombre);
+            envois.setMaximumPoolSize(envois.getMaximumPoolSize() + nombre);
+        }
+    }
+
+    /**
+     * Appelé quand la file d'un abonné est vide, juste avant la fin de son envoi : une publication peut arriver
+     * à ce moment (remplacé par les tests, cf. FluxStockServiceTest)
+     */
+    void avantFinEnvoi() {
+    }
+
+    /**
+     * @return le nombre de threads d'envoi (un de plus par abonné abandonné dont l'envoi est encore bloqué)
+     */
+    synchronized int threadsEnvoi() {
+        return envois.getCorePoolSize();
+    }
+
+    /**
+     * @return l'état de chaque produit en JSON, par référence
+     */
+    private Map<Integer, String> enJson(List<EtatStock> etats) {
+        var resultat = new HashMap<Integer, String>();
+        for (var etat : etats) {
+            try {
+                resultat.put(etat.reference(), json.writeValueAsString(etat));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return resultat;
+    }
+
+    @PreDestroy
+    void arreter() {
+        abonnes.forEach(abonne -> abonne.emetteur.complete());
+        envois.shutdownNow();
+    }
+}
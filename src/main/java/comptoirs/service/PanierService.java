@@ -0,0 +1,281 @@
+package comptoirs.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import comptoirs.dao.ClientRepository;
+import comptoirs.dao.ProduitRepository;
+import comptoirs.dto.NouvelleLigneDTO;
+import comptoirs.dto.PanierDTO;
+import comptoirs.entity.Commande;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Paniers : des commandes en cours de saisie, gardées en mémoire.
+ * Ajouter, modifier ou retirer une ligne ne fait aucune requête SQL (le catalogue est en cache, cf.
+ * ProduitRepository.findCatalogueByReference) ; la commande, ses lignes et la réservation du stock
+ * sont enregistrées en une seule transaction à la validation (cf. CommandeService.creerCommandeAvecLignes).
+ * Le stock n'est pas réservé pendant la saisie : il est vérifié à la validation.
+ * <ul>
+ * <li>Le nombre de paniers est limité (comptoirs.panier.max) : au-delà, les moins récemment utilisés sont oubliés.</li>
+ * <li>Un panier inutilisé pendant comptoirs.panier.inactivite est oublié.</li>
+ * <li>Le nombre de lignes d'un panier est limité (comptoirs.panier.lignes-max),
+ * ainsi que la quantité de chaque produit (comptoirs.panier.quantite-max).</li>
+ * <li>Un panier en cours de validation, validé, abandonné ou oublié ne peut plus être modifié,
+ * même par une requête qui l'a trouvé juste avant.</li>
+ * </ul>
+ * Les paniers sont propres à chaque instance de l'application (pas de partage entre plusieurs serveurs),
+ * et perdus à son arrêt.
+ */
+@Service
+@Validated // Les annotations de validation sont actives sur les méthodes de ce service
+public class PanierService {
+    private enum Etat { OUVERT, EN_VALIDATION, FERME }
+
+    /**
+     * Le contenu d'un panier : la quantité de chaque produit, dans l'ordre de leur ajout.
+     * Un même panier peut être modifié par plusieurs requêtes simultanées : accès synchronisés.
+     */
+    private static class Panier {
+        final String id;
+        final String client;
+        final Map<Integer, Integer> quantites = new LinkedHashMap<>();
+        // Protégé, comme "quantites", par le verrou du panier
+        Etat etat = Etat.OUVERT;
+
+        Panier(String id, String client) {
+            this.id = id;
+            this.client = client;
+        }
+
+        synchronized PanierDTO versDTO() {
+            var lignes = new ArrayList<NouvelleLigneDTO>(quantites.size());
+            quantites.forEach((produit, quantite) -> lignes.add(new NouvelleLigneDTO(produit, quantite)));
+            return new PanierDTO(id, client, lignes);
+        }
+
+        /**
+         * À appeler avec le verrou du panier
+         * @throws IllegalStateException si le panier ne peut plus être modifié
+         */
+        void verifierOuvert() {
+            switch (etat) {
+                case EN_VALIDATION -> throw new IllegalStateException("Panier en cours de validation : " + id);
+                case FERME -> throw new IllegalStateException("Panier validé, abandonné ou expiré : " + id);
+                case OUVERT -> { }
+            }
+        }
+
+        synchronized void fermer() {
+            etat = Etat.FERME;
+        }
+    }
+
+    private final CommandeService commandeService;
+    private final ClientRepository clientDao;
+    private final ProduitRepository produitDao;
+    private final Cache<String, Panier> paniers;
+    private final int lignesMax;
+    private final int quantiteMax;
+
+    // @Autowired
+    public PanierService(CommandeService commandeService, ClientRepository clientDao, ProduitRepository produitDao,
+                         MeterRegistry meterRegistry,
+                         @Value("${comptoirs.panier.max:10000}") long paniersMax,
+                         @Value("${comptoirs.panier.inactivite:30m}") Duration inactivite,
+                         @Value("${comptoirs.panier.lignes-max:100}") int lignesMax,
+                         @Value("${comptoirs.panier.quantite-max:10000}") int quantiteMax) {
+        this.commandeService = commandeService;
+        this.clientDao = clientDao;
+        this.produitDao = produitDao;
+        this.lignesMax = lignesMax;
+        this.quantiteMax = quantiteMax;
+        this.paniers = Caffeine.newBuilder()
+            .maximumSize(paniersMax)
+            .expireAfterAccess(inactivite)
+            // Un panier oublié ne peut plus être modifié par une requête qui l'a trouvé avant
+            .evictionListener((String id, Panier panier, RemovalCause cause) -> panier.fermer())
+            .recordStats()
+            .build();
+        // Nombre de paniers, paniers oubliés (cache.size, cache.evictions...), cf. /actuator/metrics
+        CaffeineCacheMetrics.monitor(meterRegistry, paniers, "paniers");
+    }
+
+    /**
+     * Ouvre un panier vide pour un client connu par sa clé
+     * @param clientCode la clé du client
+     * @return le panier
+     * @throws NoSuchElementException si le client n'existe pas
+     */
+    public PanierDTO creer(@NonNull String clientCode) {
+        if (!clientDao.existsById(clientCode)) {
+            throw new NoSuchElementException("Client inconnu : " + clientCode);
+        }
+        var panier = new Panier(UUID.randomUUID().toString(), clientCode);
+        paniers.put(panier.id, panier);
+        return panier.versDTO();
+    }
+
+    /**
+     * @param id l'identifiant du panier
+     * @return le contenu du panier
+     * @throws NoSuchElementException si le panier n'existe pas (ou plus)
+     */
+    public PanierDTO consulter(@NonNull String id) {
+        return trouver(id).versDTO();
+    }
+
+    /**
+     * Ajoute une quantité d'un produit au panier (à la quantité déjà présente, le cas échéant)
+     * @param id l'identifiant du panier
+     * @param produitRef la clé du produit
+     * @param quantite la quantité à ajouter (positive)
+     * @return le contenu du panier
+     * @throws NoSuchElementException si le panier ou le produit n'existe pas
+     * @throws IllegalStateException si le produit est indisponible, si le panier est plein,
+     *         si la quantité du produit dépasse le maximum, ou si le panier est validé ou abandonné
+     * @throws jakarta.validation.ConstraintViolationException si la quantité n'est pas positive
+     */
+    public PanierDTO ajouter(@NonNull String id, int produitRef, @Positive int quantite) {
+        var panier = trouver(id);
+        verifierProduit(produitRef);
+        synchronized (panier) {
+            panier.verifierOuvert();
+            int actuelle = panier.quantites.getOrDefault(produitRef, 0);
+            if (actuelle == 0 && panier.quantites.size() >= lignesMax) {
+                throw new IllegalStateException("Panier plein : " + lignesMax + " lignes au maximum");
+            }
+            // Comparaison sans addition : pas de dépassement de capacité des int
+            if (quantite > quantiteMax - actuelle) {
+                throw new IllegalStateException("Quantité maximum par produit : " + quantiteMax);
+            }
+            panier.quantites.put(produitRef, actuelle + quantite);
+        }
+        return panier.versDTO();
+    }
+
+    /**
+     * Modifie la quantité d'un produit dans le panier
+     * @param id l'identifiant du panier
+     * @param produitRef la clé du produit
+     * @param quantite la nouvelle quantité (0 pour retirer le produit du panier)
+     * @return le contenu du panier
+     * @throws NoSuchElementException si le panier n'existe pas, ou si le produit n'est pas dans le panier
+     * @throws IllegalStateException si la quantité dépasse le maximum, ou si le panier est validé ou abandonné
+     * @throws jakarta.validation.ConstraintViolationException si la quantité est négative
+     */
+    public PanierDTO modifier(@NonNull String id, int produitRef, @PositiveOrZero int quantite) {
+        var panier = trouver(id);
+        synchronized (panier) {
+            panier.verifierOuvert();
+            if (quantite > quantiteMax) {
+                throw new IllegalStateException("Quantité maximum par produit : " + quantiteMax);
+            }
+            if (!panier.quantites.containsKey(produitRef)) {
+                throw new NoSuchElementException("Produit absent du panier : " + produitRef);
+            }
+            if (quantite == 0) {
+                panier.quantites.remove(produitRef);
+            } else {
+                panier.quantites.put(produitRef, quantite);
+            }
+        }
+        return panier.versDTO();
+    }
+
+    /**
+     * Retire un produit du panier
+     * @param id l'identifiant du panier
+     * @param produitRef la clé du produit
+     * @return le contenu du panier
+     * @throws NoSuchElementException si le panier n'existe pas, ou si le produit n'est pas dans le panier
+     * @throws IllegalStateException si le panier est validé ou abandonné
+     */
+    public PanierDTO retirer(@NonNull String id, int produitRef) {
+        return modifier(id, produitRef, 0);
+    }
+
+    /**
+     * Abandonne un panier (rien n'est enregistré)
+     * @param id l'identifiant du panier
+     */
+    public void abandonner(@NonNull String id) {
+        var panier = paniers.asMap().remove(id);
+        if (panier != null) {
+            panier.fermer();
+        }
+    }
+
+    /**
+     * Enregistre la commande du panier, avec toutes ses lignes, en une seule transaction,
+     * avec les règles métier de CommandeService (client, produits disponibles, stock...).
+     * Le panier est supprimé si la commande est enregistrée ; sinon il est conservé, pour être corrigé.
+     * Pendant l'enregistrement, il ne peut pas être modifié.
+     * @param id l'identifiant du panier
+     * @return la commande créée, avec ses lignes
+     * @throws NoSuchElementException si le panier, le client ou un des produits n'existe pas
+     * @throws IllegalStateException si il n'y a pas assez de stock, ou si un produit est indisponible
+     * @throws jakarta.validation.ConstraintViolationException si le panier est vide
+     */
+    public Commande valider(@NonNull String id) {
+        // Retiré avant l'enregistrement : deux validations simultanées ne créent pas deux commandes
+        var panier = paniers.asMap().remove(id);
+        if (panier == null) {
+            throw new NoSuchElementException("Panier inconnu ou expiré : " + id);
+        }
+        PanierDTO contenu;
+        synchronized (panier) {
+            // Une modification commencée avant le retrait est terminée : le contenu enregistré est complet
+            panier.verifierOuvert();
+            panier.etat = Etat.EN_VALIDATION;
+            contenu = panier.versDTO();
+        }
+        try {
+            var commande = commandeService.creerCommandeAvecLignes(contenu.client(), contenu.lignes());
+            panier.fermer();
+            return commande;
+        } catch (RuntimeException e) {
+            synchronized (panier) {
+                panier.etat = Etat.OUVERT;
+            }
+            paniers.asMap().putIfAbsent(id, panier);
+            throw e;
+        }
+    }
+
+    private Panier trouver(String id) {
+        var panier = paniers.getIfPresent(id);
+        if (panier == null) {
+            throw new NoSuchElementException("Panier inconnu ou expiré : " + id);
+        }
+        return panier;
+    }
+
+    /**
+     * Vérifie que le produit existe et n'est pas indisponible, d'après le catalogue en cache (pas de requête SQL).
+     * Vérifié à nouveau à la validation, avec le stock.
+     */
+    private void verifierProduit(int produitRef) {
+        var produit = produitDao.findCatalogueByReference(produitRef)
+            .orElseThrow(() -> new NoSuchElementException("Produit inconnu : " + produitRef));
+        if (produit.isIndisponible()) {
+            throw new IllegalStateException("Produit indisponible");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package comptoirs.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * La méthode annotée est réessayée, dans une nouvelle transaction, quand elle échoue sur un conflit avec une autre
+ * transaction : verrouillage optimiste (une entité modifiée entre sa lecture et son enregistrement)
+ * ou interblocage, cf. ReessaiAspect.
+ * La méthode doit pouvoir être réexécutée depuis le début : tous ses effets sont dans la transaction annulée.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Reessai {
+}
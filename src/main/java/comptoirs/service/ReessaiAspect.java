@@ -0,0 +1,98 @@
+package comptoirs.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Réessaie les méthodes annotées @Reessai qui échouent sur un conflit avec une autre transaction
+ * (ConcurrencyFailureException) : conflit de verrouillage optimiste (OptimisticLockingFailureException,
+ * cf. les champs @Version de Produit et Commande) ou interblocage (PessimisticLockingFailureException).
+ * <ul>
+ * <li>Au plus comptoirs.reessai.essais-max essais, puis l'exception du dernier essai est levée.</li>
+ * <li>Avant chaque nouvel essai, attente aléatoire entre 0 et un plafond qui double à chaque essai
+ *     (de comptoirs.reessai.attente-initiale à comptoirs.reessai.attente-max) : les transactions en conflit
+ *     ne recommencent pas toutes au même moment.</li>
+ * <li>L'aspect s'applique avant la transaction (@Transactional) : chaque essai a sa propre transaction.
+ *     Appelée dans une transaction déjà ouverte, la méthode n'est pas réessayée : cette transaction est annulée,
+ *     c'est à l'appelant de la recommencer.</li>
+ * </ul>
+ * Métrique conflits (tags : methode, type = optimiste ou verrou, issue = reessai ou abandon), cf. /actuator/metrics
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ReessaiAspect {
+    private final int essaisMax;
+    private final long attenteInitiale;
+    private final long attenteMax;
+    private final MeterRegistry meterRegistry;
+
+    public ReessaiAspect(@Value("${comptoirs.reessai.essais-max:4}") int essaisMax,
+                         @Value("${comptoirs.reessai.attente-initiale:5ms}") Duration attenteInitiale,
+                         @Value("${comptoirs.reessai.attente-max:100ms}") Duration attenteMax,
+                         MeterRegistry meterRegistry) {
+        if (essaisMax < 1) {
+            throw new IllegalArgumentException("comptoirs.reessai.essais-max doit être positif : " + essaisMax);
+        }
+        this.essaisMax = essaisMax;
+        this.attenteInitiale = attenteInitiale.toNanos();
+        this.attenteMax = attenteMax.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(comptoirs.service.Reessai)")
+    public Object reessayer(ProceedingJoinPoint appel) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return appel.proceed();
+        }
+        var methode = appel.getSignature().getDeclaringType().getSimpleName() + "." + appel.getSignature().getName();
+        for (int essai = 1; ; essai++) {
+            try {
+                return appel.proceed();
+            } catch (ConcurrencyFailureException e) {
+                var type = e instanceof OptimisticLockingFailureException ? "optimiste" : "verrou";
+                if (essai >= essaisMax) {
+                    meterRegistry.counter("conflits", "methode", methode, "type", type, "issue", "abandon").increment();
+                    log.warn("{} : conflit ({}) au dernier essai ({}), abandon", methode, type, essai);
+                    throw e;
+                }
+                meterRegistry.counter("conflits", "methode", methode, "type", type, "issue", "reessai").increment();
+                try {
+                    TimeUnit.NANOSECONDS.sleep(attente(essai));
+                } catch (InterruptedException interruption) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param essai le numéro de l'essai qui vient d'échouer (à partir de 1)
+     * @return l'attente avant l'essai suivant, en nanosecondes : aléatoire, entre 0 et un plafond
+     *         qui double à chaque essai, sans dépasser attenteMax
+     */
+    private long attente(int essai) {
+        long plafond = attenteInitiale << Math.min(essai - 1, 20);
+        if (plafond < 0 || plafond > attenteMax) {
+            plafond = attenteMax;
+        }
+        return ThreadLocalRandom.current().nextLong(plafond + 1);
+    }
+}
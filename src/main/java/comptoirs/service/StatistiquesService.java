@@ -0,0 +1,62 @@
+package comptoirs.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import comptoirs.dao.ProduitRepository;
+import comptoirs.dto.UnitesParProduit;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Unités vendues par produit d'une catégorie (cf. StatisticsRestController).
+ * Les demandes simultanées pour une même catégorie (ex: rafraîchissement de plusieurs tableaux de bord)
+ * partagent une seule requête SQL, et son résultat est réutilisé pendant comptoirs.stats.fraicheur (cf. CalculPartage).
+ * Chaque requête SQL est faite dans sa propre transaction en lecture seule (réplique, si configurée) :
+ * les demandes qui attendent le résultat n'occupent pas de connexion JDBC.
+ * Les listes renvoyées sont partagées : elles ne sont pas modifiables.
+ */
+@Service
+public class StatistiquesService {
+    // Nombre maximum de catégories dont le résultat est conservé
+    private static final long CATEGORIES_MAX = 1000;
+
+    private final ProduitRepository produitDao;
+    private final TransactionTemplate lecture;
+    private final CalculPartage<Integer, List<UnitesParProduit>> unitesVendues;
+    private final CalculPartage<Integer, List<Object>> unitesVenduesV2;
+
+    // @Autowired
+    public StatistiquesService(ProduitRepository produitDao, PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${comptoirs.stats.fraicheur:0s}") Duration fraicheur) {
+        this.produitDao = produitDao;
+        this.lecture = new TransactionTemplate(transactionManager);
+        this.lecture.setReadOnly(true);
+        this.unitesVendues = new CalculPartage<>("stats.unitesVendues", fraicheur, CATEGORIES_MAX, meterRegistry);
+        this.unitesVenduesV2 = new CalculPartage<>("stats.unitesVenduesV2", fraicheur, CATEGORIES_MAX, meterRegistry);
+    }
+
+    /**
+     * @param codeCategorie le code de la catégorie
+     * @return les unités vendues de chaque produit de la catégorie, cf. ProduitRepository.unitesVenduesPour
+     */
+    public List<UnitesParProduit> unitesVenduesPour(Integer codeCategorie) {
+        return unitesVendues.obtenir(codeCategorie,
+            () -> Collections.unmodifiableList(lecture.execute(status -> produitDao.unitesVenduesPour(codeCategorie))));
+    }
+
+    /**
+     * @param codeCategorie le code de la catégorie
+     * @return les unités vendues de chaque produit de la catégorie, cf. ProduitRepository.unitesVenduesPourV2
+     */
+    public List<Object> unitesVenduesPourV2(Integer codeCategorie) {
+        return unitesVenduesV2.obtenir(codeCategorie,
+            () -> Collections.unmodifiableList(lecture.execute(status -> produitDao.unitesVenduesPourV2(codeCategorie))));
+    }
+}
@@ -0,0 +1,11 @@
+package comptoirs.service;
+
+import java.util.Collection;
+
+/**
+ * Événement publié par CommandeService quand une transaction modifie le stock de produits
+ * (réservation par une ligne de commande, sortie du stock à l'expédition).
+ * Il est traité après la validation de la transaction (cf. FluxStockService)
+ * @param references les clés des produits modifiés
+ */
+public record StockModifie(Collection<Integer> references) { }
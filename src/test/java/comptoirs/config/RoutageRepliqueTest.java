@@ -0,0 +1,114 @@
+package comptoirs.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Profil "replica" (cf. RoutageDataSource) : une requête HTTP qui lit puis écrit doit écrire sur le primaire.
+ * Spring Data REST traite un PATCH par une lecture (transaction en lecture seule, donc sur la réplique),
+ * puis un enregistrement, dans la même session JPA ("open-in-view") : si la session gardait sa connexion
+ * (cf. hibernate.connection.handling_mode dans application-replica.properties), l'écriture partirait vers la réplique.
+ * La réplique H2 n'est pas mise à jour après le démarrage : on y voit si l'écriture est partie vers elle.
+ * Après une écriture, le même client ne doit pas lire les caches (remplis depuis la réplique par d'autres clients).
+ *
+ * Contexte à part (profil, bases H2 dédiées), fermé après le test. Sans cache de second niveau :
+ * ses régions sont dans le CacheManager JCache de la JVM, partagé avec le contexte des autres tests,
+ * et fermé avec la SessionFactory.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:routage-primaire;LAZY_QUERY_EXECUTION=1",
+    "comptoirs.replica.hikari.jdbc-url=jdbc:h2:mem:routage-replique;LAZY_QUERY_EXECUTION=1",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles({"test", "replica", "replica-h2"})
+@DirtiesContext
+class RoutageRepliqueTest {
+    private static final int PRODUIT = 7;
+    private static final int CATEGORIE = 1;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    @Qualifier("primaire")
+    private DataSource primaire;
+    @Autowired
+    @Qualifier("replique")
+    private DataSource replique;
+
+    @Test
+    void patchEcritSurLePrimaire() throws Exception {
+        var requete = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/produits/" + PRODUIT))
+            .header("Content-Type", "application/json")
+            .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"nom\": \"Poires séchées\"}"))
+            .build();
+        var reponse = HttpClient.newHttpClient().send(requete, HttpResponse.BodyHandlers.ofString());
+
+        assertTrue(reponse.statusCode() / 100 == 2, () -> "statut " + reponse.statusCode() + " : " + reponse.body());
+        assertEquals("Poires séchées", nom(primaire), "le primaire a reçu l'écriture");
+        assertEquals("Uncle Bob's Organic Dried Pears", nom(replique), "la réplique n'a pas été modifiée");
+        // L'écriture a été vue par RoutageDataSource : les requêtes suivantes du client liront le primaire
+        assertTrue(reponse.headers().allValues("Set-Cookie").stream()
+            .anyMatch(cookie -> cookie.startsWith(LectureApresEcritureFilter.COOKIE + "=")));
+    }
+
+    @Test
+    void cacheIgnoreApresEcriture() throws Exception {
+        var ecriture = envoyer(HttpRequest.newBuilder(uri("/api/categories/" + CATEGORIE))
+            .header("Content-Type", "application/json")
+            .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"libelle\": \"Boissons fraîches\"}")));
+        assertTrue(ecriture.statusCode() / 100 == 2, () -> "statut " + ecriture.statusCode() + " : " + ecriture.body());
+        var cookie = ecriture.headers().allValues("Set-Cookie").stream()
+            .filter(valeur -> valeur.startsWith(LectureApresEcritureFilter.COOKIE + "="))
+            .map(valeur -> valeur.substring(0, valeur.indexOf(';')))
+            .findFirst().orElseThrow();
+
+        // Un autre client lit la réplique, et met la liste des catégories (ancien libellé) en cache
+        assertEquals("Boissons", libelle(envoyer(HttpRequest.newBuilder(uri("/services/simple/list")))));
+        // Le client qui vient d'écrire voit son écriture, malgré le cache
+        assertEquals("Boissons fraîches",
+            libelle(envoyer(HttpRequest.newBuilder(uri("/services/simple/list")).header("Cookie", cookie))));
+    }
+
+    private URI uri(String chemin) {
+        return URI.create("http://localhost:" + port + chemin);
+    }
+
+    private static HttpResponse<String> envoyer(HttpRequest.Builder requete) throws Exception {
+        return HttpClient.newHttpClient().send(requete.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * @return le libellé de la catégorie CATEGORIE dans la liste renvoyée par /services/simple/list
+     */
+    private static String libelle(HttpResponse<String> liste) throws Exception {
+        for (var categorie : new ObjectMapper().readTree(liste.body())) {
+            if (categorie.get("code").asInt() == CATEGORIE) {
+                return categorie.get("libelle").asText();
+            }
+        }
+        throw new AssertionError("catégorie " + CATEGORIE + " absente : " + liste.body());
+    }
+
+    private static String nom(DataSource base) {
+        return new JdbcTemplate(base).queryForObject("SELECT nom FROM Produit WHERE reference = ?", String.class, PRODUIT);
+    }
+}
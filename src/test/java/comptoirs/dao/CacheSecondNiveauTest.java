@@ -0,0 +1,137 @@
+package comptoirs.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import comptoirs.entity.Produit;
+import comptoirs.service.CommandeService;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cache de second niveau de Hibernate (cf. application.conf) : après une modification, par l'entité
+ * ou par une requête UPDATE, une lecture ne renvoie jamais l'ancienne valeur en cache.
+ * La base est partagée par les tests : chaque test la remet dans son état initial.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT) // Un seul contexte (et une seule base) pour tous les tests
+@ActiveProfiles("test")
+class CacheSecondNiveauTest {
+    private static final int PRODUIT = 3;
+    private static final String CLIENT = "BONAP";
+
+    @Autowired
+    private ProduitRepository produitDao;
+    @Autowired
+    private ClientRepository clientDao;
+    @Autowired
+    private CategorieRepository categorieDao;
+    @Autowired
+    private CommandeService commandeService;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private TransactionTemplate transaction;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Statistics statistiques;
+    // L'état initial du produit et du client modifiés par les tests
+    private Map<String, Object> produitInitial;
+    private int articlesInitial;
+    // Les entités créées par le test, supprimées après le test
+    private Integer commandeCreee;
+    private Integer produitCree;
+
+    @BeforeEach
+    void statistiques() {
+        statistiques = emf.unwrap(SessionFactory.class).getStatistics();
+        produitInitial = jdbc.queryForMap("SELECT unites_en_stock, unites_commandees, unites_vendues, indisponible "
+            + "FROM Produit WHERE reference = ?", PRODUIT);
+        articlesInitial = jdbc.queryForObject("SELECT nombre_articles_commandes FROM Client WHERE code = ?",
+            Integer.class, CLIENT);
+    }
+
+    @AfterEach
+    void etatInitial() {
+        if (produitCree != null) {
+            produitDao.deleteById(produitCree);
+        }
+        if (commandeCreee != null) {
+            jdbc.update("DELETE FROM Ligne WHERE commande_numero = ?", commandeCreee);
+            jdbc.update("DELETE FROM Commande WHERE numero = ?", commandeCreee);
+        }
+        jdbc.update("UPDATE Produit SET unites_en_stock = ?, unites_commandees = ?, unites_vendues = ?, indisponible = ? "
+            + "WHERE reference = ?", produitInitial.get("unites_en_stock"), produitInitial.get("unites_commandees"),
+            produitInitial.get("unites_vendues"), produitInitial.get("indisponible"), PRODUIT);
+        jdbc.update("UPDATE Client SET nombre_articles_commandes = ? WHERE code = ?", articlesInitial, CLIENT);
+        // Les mises à jour par JDBC contournent le cache de second niveau
+        emf.getCache().evictAll();
+    }
+
+    @Test
+    void produitLuDansLeCache() {
+        produitDao.findById(PRODUIT).orElseThrow();
+        statistiques.clear();
+        produitDao.findById(PRODUIT).orElseThrow();
+        assertEquals(0, statistiques.getPrepareStatementCount(), "le produit est lu dans le cache, sans requête SQL");
+        assertTrue(statistiques.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void reservationParRequeteUpdateEvinceLeProduit() {
+        jdbc.update("UPDATE Produit SET unites_en_stock = 1000, indisponible = FALSE WHERE reference = ?", PRODUIT);
+        emf.getCache().evict(Produit.class, PRODUIT); // La mise à jour par JDBC contourne le cache
+        int commandees = produitDao.findById(PRODUIT).orElseThrow().getUnitesCommandees();
+        var commande = commandeService.creerCommande(CLIENT);
+        commandeCreee = commande.getNumero();
+        commandeService.ajouterLigne(commande.getNumero(), PRODUIT, 1);
+        assertEquals(commandees + 1, produitDao.findById(PRODUIT).orElseThrow().getUnitesCommandees());
+        commandeService.enregistreExpedition(commande.getNumero());
+        assertEquals(commandees, produitDao.findById(PRODUIT).orElseThrow().getUnitesCommandees());
+    }
+
+    @Test
+    void compteurParRequeteUpdateEvinceLeClient() {
+        int articles = clientDao.findById(CLIENT).orElseThrow().getNombreArticlesCommandes();
+        clientDao.findById(CLIENT).orElseThrow(); // Dans le cache
+        transaction.executeWithoutResult(s -> clientDao.ajouterArticlesCommandes(CLIENT, 5));
+        assertEquals(articles + 5, clientDao.findById(CLIENT).orElseThrow().getNombreArticlesCommandes());
+        transaction.executeWithoutResult(s -> clientDao.ajouterArticlesCommandes(CLIENT, -5));
+    }
+
+    @Test
+    void modificationDeLEntiteMiseAJourDansLeCache() {
+        var produit = produitDao.findById(PRODUIT).orElseThrow();
+        var nom = produit.getQuantiteParUnite();
+        produit.setQuantiteParUnite(nom + " (modifié)");
+        produitDao.save(produit);
+        assertEquals(nom + " (modifié)", produitDao.findById(PRODUIT).orElseThrow().getQuantiteParUnite());
+        produit = produitDao.findById(PRODUIT).orElseThrow();
+        produit.setQuantiteParUnite(nom);
+        produitDao.save(produit);
+    }
+
+    @Test
+    void nouveauProduitDansLaCollectionDeSaCategorie() {
+        int code = produitDao.findById(PRODUIT).orElseThrow().getCategorie().getCode();
+        int avant = transaction.execute(s -> categorieDao.findById(code).orElseThrow().getProduits().size());
+        produitCree = transaction.execute(s -> {
+            var categorie = categorieDao.findById(code).orElseThrow();
+            return produitDao.save(new Produit("Produit du test de cache", categorie)).getReference();
+        });
+        int apres = transaction.execute(s -> categorieDao.findById(code).orElseThrow().getProduits().size());
+        assertEquals(avant + 1, apres);
+    }
+}
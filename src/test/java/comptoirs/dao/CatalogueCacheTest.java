@@ -0,0 +1,83 @@
+package comptoirs.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import comptoirs.entity.Categorie;
+
+/**
+ * Les données de référence d'un produit en cache (cf. ProduitRepository.findCatalogueByReference)
+ * sont évincées par toutes les méthodes qui enregistrent des produits (cf. EvictionProduits).
+ * La liste et le nombre des catégories en cache (cf. CategorieRepository) sont évincés par toutes les méthodes
+ * qui enregistrent ou suppriment des catégories (cf. EvictionCategories).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT) // Un seul contexte (et une seule base) pour tous les tests
+@ActiveProfiles("test")
+class CatalogueCacheTest {
+    private static final int PRODUIT = 2;
+    private static final int CATEGORIE = 1;
+
+    @Autowired
+    private ProduitRepository produitDao;
+    @Autowired
+    private CategorieRepository categorieDao;
+
+    @Test
+    void saveAllEvinceLeCatalogue() {
+        var prix = produitDao.findCatalogueByReference(PRODUIT).orElseThrow().getPrixUnitaire();
+        var produit = produitDao.findById(PRODUIT).orElseThrow();
+        produit.setPrixUnitaire(prix.add(BigDecimal.ONE));
+        produitDao.saveAll(List.of(produit));
+        assertEquals(0, prix.add(BigDecimal.ONE).compareTo(
+            produitDao.findCatalogueByReference(PRODUIT).orElseThrow().getPrixUnitaire()));
+    }
+
+    @Test
+    void saveAndFlushEvinceLeCatalogue() {
+        var produit = produitDao.findById(PRODUIT).orElseThrow();
+        boolean indisponible = produitDao.findCatalogueByReference(PRODUIT).orElseThrow().isIndisponible();
+        produit.setIndisponible(!indisponible);
+        produitDao.saveAndFlush(produit);
+        assertEquals(!indisponible, produitDao.findCatalogueByReference(PRODUIT).orElseThrow().isIndisponible());
+        // Remis dans son état initial (base partagée par les tests)
+        produit = produitDao.findById(PRODUIT).orElseThrow();
+        produit.setIndisponible(indisponible);
+        produitDao.save(produit);
+    }
+
+    @Test
+    void saveAllEvinceLesCategories() {
+        var libelle = libelleEnCache();
+        var categorie = categorieDao.findById(CATEGORIE).orElseThrow();
+        categorie.setLibelle(libelle + " (modifié)");
+        categorieDao.saveAll(List.of(categorie));
+        assertEquals(libelle + " (modifié)", libelleEnCache());
+        // Remise dans son état initial (base partagée par les tests)
+        categorie = categorieDao.findById(CATEGORIE).orElseThrow();
+        categorie.setLibelle(libelle);
+        categorieDao.saveAllAndFlush(List.of(categorie));
+        assertEquals(libelle, libelleEnCache());
+    }
+
+    @Test
+    void saveAndFlushEtDeleteInBatchEvincentLeNombreDeCategories() {
+        long nombre = categorieDao.count();
+        var categorie = categorieDao.saveAndFlush(new Categorie("Catégorie du test de cache"));
+        assertEquals(nombre + 1, categorieDao.count());
+        categorieDao.deleteAllByIdInBatch(List.of(categorie.getCode()));
+        assertEquals(nombre, categorieDao.count());
+    }
+
+    private String libelleEnCache() {
+        return categorieDao.findAll().stream()
+            .filter(categorie -> categorie.getCode() == CATEGORIE)
+            .findFirst().orElseThrow().getLibelle();
+    }
+}
@@ -0,0 +1,47 @@
+package comptoirs.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.modelmapper.ModelMapper;
+
+import comptoirs.entity.Categorie;
+import comptoirs.entity.Client;
+import comptoirs.entity.Commande;
+import comptoirs.entity.Ligne;
+import comptoirs.entity.Produit;
+
+/**
+ * CommandeMapper produit les mêmes DTO que l'ancienne conversion par réflexion (ModelMapper),
+ * champ par champ (equals de Lombok). Entités en mémoire, sans base de données.
+ */
+class CommandeMapperTest {
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final CommandeMapper commandeMapper = new CommandeMapper();
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 20})
+    void memesDTOQueModelMapper(int nombreDeLignes) {
+        var client = new Client("ALFKI", "Alfreds Futterkiste");
+        client.setContact("Maria Anders");
+        var commande = new Commande(client);
+        var categorie = new Categorie("Boissons");
+        for (int i = 0; i < nombreDeLignes; i++) {
+            var produit = new Produit("Produit " + i, categorie);
+            produit.setPrixUnitaire(BigDecimal.valueOf(10 + i));
+            commande.getLignes().add(new Ligne(commande, produit, i + 1));
+        }
+        assertEquals(modelMapper.map(commande, CommandeDTO.class), commandeMapper.toDTO(commande));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "Maria Anders"})
+    void memeDTOClientQueModelMapper(String contact) {
+        var client = new Client("ALFKI", "Alfreds Futterkiste");
+        client.setContact(contact.isEmpty() ? null : contact);
+        assertEquals(modelMapper.map(client, ClientDTO.class), commandeMapper.toDTO(client));
+    }
+}
@@ -0,0 +1,152 @@
+package comptoirs.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import comptoirs.entity.Produit;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Nombre de requêtes SQL exécutées par chaque point d'accès REST (contrôleurs et API /api),
+ * pour détecter les requêtes "N+1" ajoutées par erreur (associations "lazy" parcourues une par une).
+ * Chaque point d'accès est appelé une fois par HTTP, dans l'ordre de la liste,
+ * les caches étant vidés avant chaque appel (pire cas, et résultat reproductible).
+ * Les requêtes sont comptées par les statistiques de Hibernate (hibernate.generate_statistics).
+ * Un test par point d'accès : "mvn verify" échoue si l'un d'eux dépasse son budget.
+ * Si une modification réduit le nombre de requêtes, il faut abaisser le budget correspondant.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class BudgetRequetesTest {
+
+    /**
+     * Un appel HTTP et le nombre maximum de requêtes SQL qu'il peut exécuter.
+     * Le chemin peut contenir "{commande}" : le numéro de la commande créée par l'appel "ajouterPour",
+     * et "{panier}" : l'identifiant du panier créé par l'appel "paniers/pour"
+     */
+    record Appel(String methode, String chemin, String json, int budget) {
+        Appel(String methode, String chemin, int budget) {
+            this(methode, chemin, null, budget);
+        }
+    }
+
+    static final List<Appel> APPELS = List.of(
+        new Appel("GET", "/services/simple/list", 1),
+        new Appel("GET", "/services/simple/combien", 1),
+        new Appel("GET", "/services/commandes/parClient/ALFKI?taille=20", 3),
+        new Appel("GET", "/services/commandes/enCours/ALFKI?taille=20", 1),
+        new Appel("GET", "/services/commande/other/projection/10702", 1),
+        new Appel("GET", "/services/commandes/export", 1),
+        new Appel("GET", "/services/stats/unitesVenduesPourCategorie/1", 1),
+        new Appel("GET", "/services/stats/unitesVenduesPourCategorieV2/1", 1),
+        new Appel("GET", "/services/stats/ventes/parCategorie", 0),
+        new Appel("GET", "/services/compteurs/articlesCommandes", 1),
+        new Appel("GET", "/services/compteurs/unitesVendues", 1),
+        new Appel("GET", "/api/categories", 1),
+        new Appel("GET", "/api/categories/1", 1),
+        new Appel("GET", "/api/categories/1/produits", 2),
+        new Appel("GET", "/api/produits?size=20", 3),
+        new Appel("GET", "/api/produits/1", 1),
+        new Appel("GET", "/api/clients?size=20", 2),
+        new Appel("GET", "/api/clients/ALFKI", 1),
+        new Appel("GET", "/api/clients/ALFKI/commandes", 2),
+        new Appel("GET", "/api/commandes?size=20", 3),
+        new Appel("GET", "/api/commandes/10702", 1),
+        new Appel("GET", "/api/commandes/10702/lignes", 2),
+        new Appel("GET", "/api/lignes?size=20", 4),
+        new Appel("POST", "/services/commandes/ajouterPour/ALFKI", 3),
+        new Appel("POST", "/services/commandes/ajouterLigne?commandeNum={commande}&produitRef=1&quantite=1", 7),
+        new Appel("POST", "/services/commandes/ajouterLignes/{commande}",
+            "[{\"produitRef\": 2, \"quantite\": 1}, {\"produitRef\": 3, \"quantite\": 1}]", 8),
+        new Appel("POST", "/services/paniers/pour/ALFKI", 1),
+        new Appel("POST", "/services/paniers/{panier}/ajouter?produitRef=4&quantite=1", 1),
+        new Appel("POST", "/services/paniers/{panier}/ajouter?produitRef=6&quantite=2", 1),
+        new Appel("POST", "/services/paniers/{panier}/valider", 8),
+        new Appel("POST", "/services/commandes/expedier/{commande}", 3),
+        new Appel("POST", "/services/commandes/expedier", "[11008, 11072]", 11)
+    );
+
+    @Autowired
+    private TestRestTemplate http;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private String commande;
+    private String panier;
+
+    @BeforeEach
+    void produitsEnStock() {
+        // Du stock pour les produits commandés ci-dessus (dans data.sql, certains ont moins de stock que d'unités
+        // en commande)
+        jdbc.update("UPDATE Produit SET unites_en_stock = unites_commandees + 1000, indisponible = FALSE "
+            + "WHERE reference IN (1, 2, 3, 4, 6)");
+        // La mise à jour par JDBC contourne le cache de second niveau
+        emf.getCache().evict(Produit.class);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> budgetDeChaquePointAcces() {
+        // Les appels dépendent les uns des autres ({commande}, {panier}) : exécutés dans l'ordre de la liste
+        return APPELS.stream().map(appel -> DynamicTest.dynamicTest(appel.methode() + " " + appel.chemin(),
+            () -> verifier(appel)));
+    }
+
+    private void verifier(Appel appel) throws Exception {
+        var sessionFactory = emf.unwrap(SessionFactory.class);
+        Statistics statistiques = sessionFactory.getStatistics();
+        // Pire cas : aucune entité, collection ni résultat en cache
+        // (Cache.evictAll() de JPA ne vide pas les régions des collections)
+        sessionFactory.getCache().evictAllRegions();
+        cacheManager.getCacheNames().forEach(nom -> cacheManager.getCache(nom).clear());
+        statistiques.clear();
+
+        var chemin = remplacer(remplacer(appel.chemin(), "{commande}", commande), "{panier}", panier);
+        var entetes = new HttpHeaders();
+        if (appel.json() != null) {
+            entetes.setContentType(MediaType.APPLICATION_JSON);
+        }
+        var reponse = http.exchange(chemin, HttpMethod.valueOf(appel.methode()),
+            new HttpEntity<>(appel.json(), entetes), String.class);
+        long requetes = statistiques.getPrepareStatementCount();
+
+        assertEquals(200, reponse.getStatusCode().value(), () -> chemin + " : " + reponse.getBody());
+        if (chemin.contains("ajouterPour")) {
+            commande = json.readTree(reponse.getBody()).get("numero").asText();
+        }
+        if (chemin.contains("paniers/pour")) {
+            panier = json.readTree(reponse.getBody()).get("id").asText();
+        }
+        assertTrue(requetes <= appel.budget(),
+            () -> chemin + " : " + requetes + " requêtes SQL, budget " + appel.budget());
+    }
+
+    private static String remplacer(String chemin, String variable, String valeur) {
+        return valeur == null ? chemin : chemin.replace(variable, valeur);
+    }
+}
@@ -0,0 +1,56 @@
+package comptoirs.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Les compteurs tenus à jour par CommandeService (Client.nombreArticlesCommandes, Produit.unitesVendues) ne peuvent pas être
+ * modifiés par l'API REST /api : ils sont ignorés dans le JSON reçu.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT) // Un seul contexte (et une seule base) pour tous les tests
+@ActiveProfiles("test")
+class CompteursLectureSeuleTest {
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void nombreArticlesCommandesDuClient() throws Exception {
+        var avant = compteur("SELECT nombre_articles_commandes FROM Client WHERE code = 'ALFKI'");
+        patch("/api/clients/ALFKI", "{\"nombreArticlesCommandes\": 5000}");
+        assertEquals(avant, compteur("SELECT nombre_articles_commandes FROM Client WHERE code = 'ALFKI'"));
+    }
+
+    @Test
+    void unitesVenduesDuProduit() throws Exception {
+        var avant = compteur("SELECT unites_vendues FROM Produit WHERE reference = 1");
+        patch("/api/produits/1", "{\"unitesVendues\": 1}");
+        assertEquals(avant, compteur("SELECT unites_vendues FROM Produit WHERE reference = 1"));
+    }
+
+    private void patch(String chemin, String json) throws Exception {
+        var requete = HttpRequest.newBuilder(URI.create("http://localhost:" + port + chemin))
+            .header("Content-Type", "application/json")
+            .method("PATCH", HttpRequest.BodyPublishers.ofString(json))
+            .build();
+        var reponse = HttpClient.newHttpClient().send(requete, HttpResponse.BodyHandlers.ofString());
+        assertTrue(reponse.statusCode() / 100 == 2, () -> "statut " + reponse.statusCode() + " : " + reponse.body());
+    }
+
+    private int compteur(String requete) {
+        return jdbc.queryForObject(requete, Integer.class);
+    }
+}
@@ -0,0 +1,63 @@
+package comptoirs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import comptoirs.dto.Ventes;
+
+/**
+ * Rafraîchissement de la copie des lignes de commande (cf. AnalyseVentesService.rafraichir) : une ligne enregistrée
+ * après une autre, avec une clé inférieure (clés réservées par blocs par chaque instance), est comptée une fois.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT) // Un seul contexte (et une seule base) pour tous les tests
+@ActiveProfiles("test")
+class AnalyseVentesServiceTest {
+    // Loin des clés générées par la séquence ; lignes supprimées après le test
+    private static final int CLE = 1_000_000;
+
+    @Autowired
+    private AnalyseVentesService service;
+    @Autowired
+    private CommandeService commandeService;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @AfterEach
+    void supprimerLignes() {
+        jdbc.update("DELETE FROM Ligne WHERE id >= ?", CLE);
+        service.reconstruire();
+    }
+
+    @Test
+    void ligneEnregistreeApresUneCleSuperieure() {
+        int commande = commandeService.creerCommande("ALFKI").getNumero();
+        service.reconstruire();
+        long avant = unitesVendues();
+
+        inserer(CLE + 60, commande, 1, 3);
+        service.rafraichir();
+        // Clé dans la fenêtre (comptoirs.analyse.fenetre), inférieure à la plus grande clé déjà lue
+        inserer(CLE + 20, commande, 2, 5);
+        service.rafraichir();
+        assertEquals(avant + 3 + 5, unitesVendues());
+
+        // Les lignes de la fenêtre relues ne sont pas recopiées
+        assertEquals(0, service.rafraichir());
+        assertEquals(avant + 3 + 5, unitesVendues());
+    }
+
+    private void inserer(int id, int commande, int produit, int quantite) {
+        jdbc.update("INSERT INTO Ligne(id, commande_numero, produit_reference, quantite) VALUES (?, ?, ?, ?)",
+            id, commande, produit, quantite);
+    }
+
+    private long unitesVendues() {
+        return service.ventesPar(AnalyseVentesService.Critere.PRODUIT).stream().mapToLong(Ventes::quantite).sum();
+    }
+}
@@ -0,0 +1,105 @@
+package comptoirs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Calculs partagés (cf. CalculPartage) : des appels simultanés pour une même clé font un seul calcul,
+ * et reçoivent tous son résultat, ou son exception.
+ */
+class CalculPartageTest {
+    private static final int APPELS = 16;
+    private static final String CLE = "categorie 1";
+
+    private final SimpleMeterRegistry metriques = new SimpleMeterRegistry();
+    private final CalculPartage<String, List<Integer>> partage =
+        new CalculPartage<>("test", Duration.ofMinutes(1), 10, metriques);
+
+    @Test
+    void unSeulCalculPourDesAppelsSimultanes() throws Exception {
+        var calculs = new AtomicInteger();
+        var liberer = new CountDownLatch(1);
+        var resultats = appelsSimultanes(() -> {
+            calculs.incrementAndGet();
+            attendre(liberer);
+            return List.of(1, 2, 3);
+        }, liberer);
+
+        assertEquals(1, calculs.get());
+        var premier = resultats.get(0).get();
+        for (var resultat : resultats) {
+            assertSame(premier, resultat.get(), "le même résultat pour tous les appels");
+        }
+    }
+
+    @Test
+    void erreurTransmiseATousLesAppelsEtNonConservee() throws Exception {
+        var calculs = new AtomicInteger();
+        var liberer = new CountDownLatch(1);
+        var erreur = new IllegalStateException("base indisponible");
+        var resultats = appelsSimultanes(() -> {
+            calculs.incrementAndGet();
+            attendre(liberer);
+            throw erreur;
+        }, liberer);
+
+        assertEquals(1, calculs.get());
+        for (var resultat : resultats) {
+            var e = assertThrows(ExecutionException.class, resultat::get);
+            assertSame(erreur, e.getCause(), "l'exception du calcul, telle quelle");
+        }
+        // L'erreur n'est pas conservée : l'appel suivant refait le calcul
+        assertEquals(List.of(4), partage.obtenir(CLE, () -> {
+            calculs.incrementAndGet();
+            return List.of(4);
+        }));
+        assertEquals(2, calculs.get());
+    }
+
+    /**
+     * Lance APPELS appels simultanés pour la même clé, et libère le calcul quand tous les autres appels l'attendent
+     */
+    private List<Future<List<Integer>>> appelsSimultanes(Supplier<List<Integer>> calcul, CountDownLatch liberer)
+            throws InterruptedException {
+        var resultats = new ArrayList<Future<List<Integer>>>();
+        var executeur = Executors.newFixedThreadPool(APPELS);
+        for (int i = 0; i < APPELS; i++) {
+            resultats.add(executeur.submit(() -> partage.obtenir(CLE, calcul)));
+        }
+        // Les autres appels ont trouvé le calcul en cours (compté juste avant leur attente, cf. CalculPartage.obtenir)
+        var attentes = metriques.counter("calcul.partage", "nom", "test", "resultat", "attente");
+        while (attentes.count() < APPELS - 1) {
+            Thread.sleep(1);
+        }
+        liberer.countDown();
+        executeur.shutdown();
+        assertTrue(executeur.awaitTermination(10, TimeUnit.SECONDS));
+        return resultats;
+    }
+
+    private static void attendre(CountDownLatch liberer) {
+        try {
+            liberer.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package comptoirs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import comptoirs.dto.NouvelleLigneDTO;
+import comptoirs.entity.Produit;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Nombre de requêtes SQL de l'expédition d'une commande (cf. CommandeService.enregistreExpedition) :
+ * il ne dépend pas du nombre de lignes. Compté par les statistiques de Hibernate, comme BudgetRequetesTest.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT) // Un seul contexte (et une seule base) pour tous les tests
+@ActiveProfiles("test")
+class ExpeditionRequetesTest {
+    // Chargement de la commande avec ses lignes, UPDATE des produits, UPDATE de la commande
+    private static final int REQUETES = 3;
+    private static final int LIGNES = 10;
+
+    @Autowired
+    private CommandeService service;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistiques;
+    private List<Integer> produits;
+
+    @BeforeEach
+    void produitsDisponibles() {
+        produits = jdbc.queryForList("SELECT reference FROM Produit ORDER BY reference DESC LIMIT ?", Integer.class, LIGNES);
+        jdbc.update("UPDATE Produit SET unites_en_stock = 1000000, unites_commandees = 0, indisponible = FALSE "
+            + "WHERE reference IN (" + String.join(",", produits.stream().map(String::valueOf).toList()) + ")");
+        // Les mises à jour par JDBC contournent le cache de second niveau
+        emf.getCache().evict(Produit.class);
+        statistiques = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void memeNombreDeRequetesQuelQueSoitLeNombreDeLignes() {
+        assertEquals(REQUETES, requetesExpedition(1), "commande d'une ligne");
+        assertEquals(REQUETES, requetesExpedition(LIGNES), "commande de " + LIGNES + " lignes");
+    }
+
+    private long requetesExpedition(int lignes) {
+        var commande = service.creerCommandeAvecLignes("ALFKI", IntStream.range(0, lignes)
+            .mapToObj(i -> new NouvelleLigneDTO(produits.get(i), 1)).toList());
+        statistiques.clear();
+        var expediee = service.enregistreExpedition(commande.getNumero());
+        assertEquals(lignes, expediee.getLignes().size());
+        return statistiques.getPrepareStatementCount();
+    }
+}
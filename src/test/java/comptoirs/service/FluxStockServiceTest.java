@@ -0,0 +1,235 @@
+package comptoirs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import comptoirs.dao.ProduitRepository;
+import comptoirs.entity.Produit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Flux des changements de stock (cf. FluxStockService) : file coalescente de chaque abonné, abandon d'un abonné
+ * bloqué, publication pendant la fin d'un envoi.
+ * Chaque test crée son propre service (hors du contexte Spring : pas de diffusion planifiée),
+ * dont les flux notent les messages au lieu de les écrire dans une réponse HTTP.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT) // Un seul contexte (et une seule base) pour tous les tests
+@ActiveProfiles("test")
+class FluxStockServiceTest {
+    private static final int PRODUIT = 5;
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired
+    private ProduitRepository produitDao;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private final SimpleMeterRegistry metriques = new SimpleMeterRegistry();
+    private final List<FluxStockService> services = new ArrayList<>();
+    // Les flux des prochains abonnés (cf. FluxStockService.creerEmetteur)
+    private final Queue<Flux> prochainsFlux = new ConcurrentLinkedQueue<>();
+    private int stockInitial;
+    // Le stock à publier à la prochaine fin d'envoi (cf. FluxStockService.avantFinEnvoi), 0 si aucun
+    private volatile int publierAvantFinEnvoi;
+
+    /**
+     * Un flux qui note le stock du produit de chaque message envoyé. Chaque envoi attend "liberer" (client lent)
+     */
+    private static class Flux extends SseEmitter {
+        final CountDownLatch liberer;
+        final CountDownLatch envoiCommence = new CountDownLatch(1);
+        // Pour chaque message : le stock de chaque produit du message, par référence
+        final BlockingQueue<Map<Integer, Integer>> messages = new LinkedBlockingQueue<>();
+        volatile boolean termine;
+
+        Flux(CountDownLatch liberer) {
+            this.liberer = liberer;
+        }
+
+        @Override
+        public void send(SseEventBuilder evenement) throws IOException {
+            envoiCommence.countDown();
+            try {
+                liberer.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            for (var donnee : evenement.build()) {
+                if (donnee.getData() instanceof String texte && texte.startsWith("[")) {
+                    var stocks = new HashMap<Integer, Integer>();
+                    JSON.readTree(texte).forEach(etat ->
+                        stocks.put(etat.get("reference").asInt(), etat.get("unitesEnStock").asInt()));
+                    messages.add(stocks);
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            termine = true;
+        }
+    }
+
+    @BeforeEach
+    void lireStock() {
+        stockInitial = jdbc.queryForObject("SELECT unites_en_stock FROM Produit WHERE reference = ?", Integer.class, PRODUIT);
+    }
+
+    @AfterEach
+    void arreter() {
+        services.forEach(FluxStockService::arreter);
+        // Remis dans son état initial (base partagée par les tests)
+        jdbc.update("UPDATE Produit SET unites_en_stock = ? WHERE reference = ?", stockInitial, PRODUIT);
+        emf.getCache().evict(Produit.class);
+    }
+
+    @Test
+    void seulLeDernierEtatDeChaqueProduitEstEnvoye() throws Exception {
+        var service = service(60_000, 2);
+        var liberer = new CountDownLatch(1);
+        var abonne = abonner(service, liberer);
+        service.diffuser(); // L'état initial, dont l'envoi reste bloqué
+        assertTrue(abonne.envoiCommence.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 3; i++) {
+            modifierStock(service, stockInitial + i);
+        }
+        liberer.countDown();
+
+        assertEquals(stockInitial, abonne.messages.poll(5, TimeUnit.SECONDS).get(PRODUIT));
+        // Les trois changements, regroupés en un seul message avec le dernier état
+        assertEquals(Map.of(PRODUIT, stockInitial + 3), abonne.messages.poll(5, TimeUnit.SECONDS));
+        assertNull(abonne.messages.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void abonneBloqueAbandonneEtThreadRendu() throws Exception {
+        var service = service(50, 1);
+        var bloque = new CountDownLatch(1);
+        var lent = abonner(service, bloque);
+        service.diffuser();
+        assertTrue(lent.envoiCommence.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100); // Plus que envoi-max
+
+        // L'unique thread d'envoi est bloqué : l'autre abonné n'est servi que par le thread ajouté à l'abandon
+        var autre = abonner(service, new CountDownLatch(0));
+        service.diffuser();
+        assertEquals(1, metriques.counter("stock.flux.abandons").count());
+        assertEquals(1, metriques.get("stock.flux.abonnes").gauge().value());
+        assertEquals(2, service.threadsEnvoi());
+        assertNotNull(autre.messages.poll(5, TimeUnit.SECONDS), "l'autre abonné est servi pendant l'envoi bloqué");
+
+        // Fin de l'envoi bloqué : le flux est terminé, et le thread ajouté est rendu
+        bloque.countDown();
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((!lent.termine || service.threadsEnvoi() != 1) && System.nanoTime() < limite) {
+            Thread.sleep(1);
+        }
+        assertTrue(lent.termine);
+        assertEquals(1, service.threadsEnvoi());
+    }
+
+    @Test
+    void publicationPendantLaFinDUnEnvoiNonPerdue() throws Exception {
+        var service = service(60_000, 2);
+        var abonne = abonner(service, new CountDownLatch(0));
+        service.diffuser();
+        assertNotNull(abonne.messages.poll(5, TimeUnit.SECONDS));
+
+        for (int i = 1; i <= 10; i++) {
+            // La file de l'abonné est vide, son envoi se termine : un autre thread publie un nouvel état à ce moment
+            publierAvantFinEnvoi = stockInitial + 2 * i;
+            modifierStock(service, stockInitial + 2 * i - 1);
+            // Aucune autre publication ne suit : si celle-ci était perdue, le dernier état n'arriverait jamais
+            attendreStock(abonne, stockInitial + 2 * i);
+        }
+    }
+
+    private FluxStockService service(long envoiMax, int threads) {
+        var service = new FluxStockService(produitDao, transactionManager, objectMapper, metriques,
+                10, 60_000, envoiMax, threads) {
+            @Override
+            SseEmitter creerEmetteur() {
+                return prochainsFlux.remove();
+            }
+
+            @Override
+            void avantFinEnvoi() {
+                int stock = publierAvantFinEnvoi;
+                if (stock != 0) {
+                    publierAvantFinEnvoi = 0;
+                    var publication = new Thread(() -> modifierStock(this, stock));
+                    publication.start();
+                    try {
+                        publication.join();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+        services.add(service);
+        return service;
+    }
+
+    private Flux abonner(FluxStockService service, CountDownLatch liberer) {
+        var flux = new Flux(liberer);
+        prochainsFlux.add(flux);
+        service.abonner();
+        return flux;
+    }
+
+    /**
+     * Modifie le stock du produit, comme une transaction de CommandeService, puis diffuse
+     */
+    private void modifierStock(FluxStockService service, int stock) {
+        jdbc.update("UPDATE Produit SET unites_en_stock = ? WHERE reference = ?", stock, PRODUIT);
+        service.stockModifie(new StockModifie(List.of(PRODUIT)));
+        service.diffuser();
+    }
+
+    private static void attendreStock(Flux abonne, int stock) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < limite) {
+            var message = abonne.messages.poll(10, TimeUnit.MILLISECONDS);
+            if (message != null && Integer.valueOf(stock).equals(message.get(PRODUIT))) {
+                return;
+            }
+        }
+        fail("stock " + stock + " jamais reçu");
+    }
+}
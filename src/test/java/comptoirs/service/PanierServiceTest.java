@@ -0,0 +1,111 @@
+package comptoirs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import comptoirs.entity.Produit;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Paniers (cf. PanierService) : pas de modification perdue pendant la validation, quantités bornées.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT) // Un seul contexte (et une seule base) pour tous les tests
+@ActiveProfiles("test")
+class PanierServiceTest {
+    private static final String CLIENT = "ALFKI";
+    private static final int PRODUIT = 4;
+    private static final int THREADS = 8;
+    private static final int AJOUTS_PAR_THREAD = 500;
+
+    @Autowired
+    private PanierService service;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Value("${comptoirs.panier.quantite-max}")
+    private int quantiteMax;
+
+    @BeforeEach
+    void produitEnStock() {
+        jdbc.update("UPDATE Produit SET unites_en_stock = unites_commandees + 100000, indisponible = FALSE "
+            + "WHERE reference = ?", PRODUIT);
+        // La mise à jour par JDBC contourne le cache de second niveau
+        emf.getCache().evict(Produit.class);
+    }
+
+    @Test
+    void ajoutsPendantLaValidation() throws InterruptedException {
+        var panier = service.creer(CLIENT).id();
+        service.ajouter(panier, PRODUIT, 1);
+        var acceptes = new AtomicInteger(1);
+        var depart = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < THREADS; t++) {
+            var thread = new Thread(() -> {
+                try {
+                    depart.await();
+                    for (int i = 0; i < AJOUTS_PAR_THREAD; i++) {
+                        service.ajouter(panier, PRODUIT, 1);
+                        acceptes.incrementAndGet();
+                    }
+                } catch (IllegalStateException | NoSuchElementException e) {
+                    // Panier en cours de validation, ou validé
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        depart.countDown();
+        while (acceptes.get() < 100 && threads.stream().anyMatch(Thread::isAlive)) {
+            Thread.onSpinWait();
+        }
+        var commande = service.valider(panier);
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Tout ajout accepté est dans la commande
+        int quantite = jdbc.queryForObject("SELECT quantite FROM Ligne WHERE commande_numero = ? AND produit_reference = ?",
+            Integer.class, commande.getNumero(), PRODUIT);
+        assertEquals(acceptes.get(), quantite);
+    }
+
+    @Test
+    void panierValideOuAbandonneNonModifiable() {
+        var valide = service.creer(CLIENT).id();
+        service.ajouter(valide, PRODUIT, 1);
+        service.valider(valide);
+        assertThrows(NoSuchElementException.class, () -> service.ajouter(valide, PRODUIT, 1));
+
+        var abandonne = service.creer(CLIENT).id();
+        service.abandonner(abandonne);
+        assertThrows(NoSuchElementException.class, () -> service.ajouter(abandonne, PRODUIT, 1));
+    }
+
+    @Test
+    void quantiteBornee() {
+        var panier = service.creer(CLIENT).id();
+        service.ajouter(panier, PRODUIT, quantiteMax);
+        assertThrows(IllegalStateException.class, () -> service.ajouter(panier, PRODUIT, 1));
+        // Integer.MAX_VALUE ajouté à une quantité positive dépasserait la capacité d'un int
+        assertThrows(IllegalStateException.class, () -> service.ajouter(panier, PRODUIT, Integer.MAX_VALUE));
+        assertThrows(IllegalStateException.class, () -> service.modifier(panier, PRODUIT, quantiteMax + 1));
+        assertEquals(quantiteMax, service.consulter(panier).lignes().get(0).getQuantite());
+    }
+}
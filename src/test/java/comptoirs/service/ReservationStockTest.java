@@ -0,0 +1,172 @@
+package comptoirs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import comptoirs.dto.NouvelleLigneDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Réservations concurrentes d'un même produit (cf. ProduitRepository.reserverStock) : plus de demandes que de stock,
+ * le stock ne doit jamais être dépassé.
+ * Commandes simultanées de plusieurs produits (cf. CommandeService.ajouterLignes) : pas d'interblocage,
+ * quel que soit l'ordre des lignes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT) // Un seul contexte (et une seule base) pour tous les tests
+@ActiveProfiles("test")
+class ReservationStockTest {
+    private static final int PRODUIT = 1;
+    private static final int STOCK = 20;
+    private static final int THREADS = 50;
+    // Produits de plusieurs lignes, commandés par chaque thread dans l'ordre croissant ou décroissant
+    private static final List<Integer> PRODUITS = List.of(12, 13, 14, 15);
+    private static final int THREADS_LIGNES = 8;
+    private static final int COMMANDES_PAR_THREAD = 20;
+
+    @Autowired
+    private CommandeService service;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void pasDeSurventeSousConcurrence() throws InterruptedException {
+        jdbc.update("UPDATE Produit SET unites_en_stock = ?, unites_commandees = 0, indisponible = FALSE WHERE reference = ?",
+            STOCK, PRODUIT);
+        // La mise à jour par JDBC contourne le cache de second niveau
+        emf.getCache().evict(comptoirs.entity.Produit.class);
+        var commandes = new ArrayList<Integer>();
+        for (int i = 0; i < THREADS; i++) {
+            commandes.add(service.creerCommande("ALFKI").getNumero());
+        }
+
+        var reussites = new AtomicInteger();
+        var refus = new AtomicInteger();
+        var erreurs = new AtomicInteger();
+        var depart = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (var commande : commandes) {
+            var thread = new Thread(() -> {
+                try {
+                    depart.await();
+                    service.ajouterLigne(commande, PRODUIT, 1);
+                    reussites.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    refus.incrementAndGet(); // Pas assez de stock
+                } catch (Exception e) {
+                    erreurs.incrementAndGet();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        depart.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, erreurs.get(), "erreurs inattendues");
+        assertEquals(STOCK, reussites.get(), "une réservation réussie par unité en stock");
+        assertEquals(THREADS - STOCK, refus.get(), "les autres réservations sont refusées");
+        var etat = jdbc.queryForMap("SELECT unites_en_stock, unites_commandees FROM Produit WHERE reference = ?", PRODUIT);
+        int stock = (Integer) etat.get("unites_en_stock");
+        int commandees = (Integer) etat.get("unites_commandees");
+        assertTrue(stock - commandees >= 0, "stock disponible négatif : " + (stock - commandees));
+        assertEquals(STOCK, commandees);
+        int enLignes = jdbc.queryForObject("SELECT COALESCE(SUM(quantite), 0) FROM Ligne WHERE produit_reference = ? "
+            + "AND commande_numero IN (" + String.join(",", commandes.stream().map(String::valueOf).toList()) + ")",
+            Integer.class, PRODUIT);
+        assertEquals(STOCK, enLignes, "quantité des lignes enregistrées");
+    }
+
+    @Test
+    void pasDInterblocageEntreCommandesDeLignes() throws InterruptedException {
+        var etats = new HashMap<Integer, Map<String, Object>>();
+        for (var produit : PRODUITS) {
+            etats.put(produit, jdbc.queryForMap("SELECT unites_en_stock, unites_commandees, unites_vendues "
+                + "FROM Produit WHERE reference = ?", produit));
+            jdbc.update("UPDATE Produit SET unites_en_stock = unites_commandees + 100000, indisponible = FALSE "
+                + "WHERE reference = ?", produit);
+        }
+        emf.getCache().evict(comptoirs.entity.Produit.class);
+        int articles = jdbc.queryForObject("SELECT nombre_articles_commandes FROM Client WHERE code = 'ALFKI'",
+            Integer.class);
+        var commandesCreees = new ArrayList<Integer>();
+        try {
+            double interblocagesAvant = interblocages();
+            var erreurs = new AtomicInteger();
+            var depart = new CountDownLatch(1);
+            var threads = new ArrayList<Thread>();
+            for (int t = 0; t < THREADS_LIGNES; t++) {
+                var references = new ArrayList<>(PRODUITS);
+                if (t % 2 == 1) {
+                    Collections.reverse(references);
+                }
+                var lignes = references.stream().map(produit -> new NouvelleLigneDTO(produit, 1)).toList();
+                var commandes = new ArrayList<Integer>();
+                for (int i = 0; i < COMMANDES_PAR_THREAD; i++) {
+                    commandes.add(service.creerCommande("ALFKI").getNumero());
+                }
+                commandesCreees.addAll(commandes);
+                var thread = new Thread(() -> {
+                    try {
+                        depart.await();
+                        for (var commande : commandes) {
+                            service.ajouterLignes(commande, lignes);
+                        }
+                    } catch (Exception e) {
+                        erreurs.incrementAndGet();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            depart.countDown();
+            for (var thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(0, erreurs.get(), "erreurs inattendues");
+            // Un interblocage est réessayé (cf. Reessai) : il ne se voit que dans la métrique
+            assertEquals(0, interblocages() - interblocagesAvant, "interblocages");
+        } finally {
+            // Remis dans leur état initial (base partagée par les tests)
+            for (var commande : commandesCreees) {
+                jdbc.update("DELETE FROM Ligne WHERE commande_numero = ?", commande);
+                jdbc.update("DELETE FROM Commande WHERE numero = ?", commande);
+            }
+            etats.forEach((produit, etat) -> jdbc.update("UPDATE Produit SET unites_en_stock = ?, "
+                + "unites_commandees = ?, unites_vendues = ? WHERE reference = ?", etat.get("unites_en_stock"),
+                etat.get("unites_commandees"), etat.get("unites_vendues"), produit));
+            jdbc.update("UPDATE Client SET nombre_articles_commandes = ? WHERE code = 'ALFKI'", articles);
+            emf.getCache().evictAll();
+        }
+    }
+
+    /**
+     * @return le nombre de conflits de verrous (interblocages) de ajouterLignes depuis le démarrage (cf. ReessaiAspect)
+     */
+    private double interblocages() {
+        return meterRegistry.find("conflits").tag("methode", "CommandeService.ajouterLignes").tag("type", "verrou")
+            .counters().stream().mapToDouble(Counter::count).sum();
+    }
+}